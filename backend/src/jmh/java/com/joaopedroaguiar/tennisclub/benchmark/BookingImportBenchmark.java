@@ -0,0 +1,236 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.TennisClubApplication;
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.service.BookingService;
+import com.joaopedroaguiar.tennisclub.service.CourtOccupancyIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da importação de 100 mil agendamentos: antes (IDENTITY, um INSERT por linha)
+ * e depois (sequência pooled com INSERTs em lotes JDBC) da troca da geração de IDs, e a
+ * importação completa pelo BookingService (validação, admissão no índice e persistência)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada iteração é uma única importação sobre tabelas vazias; o resultado é o tempo por
+ * agendamento (linhas/s = 1.000.000 / score). Os dois primeiros casos reproduzem no JDBC
+ * os comandos que o Hibernate emite em cada estratégia, no mesmo H2 em memória.
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="BookingImportBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BookingImportBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int COURTS = 5;
+
+    // Horários de 1 hora entre 06:00 e 22:00: 80 agendamentos por dia nas 5 quadras
+    private static final int SLOTS_PER_DAY = 16;
+    private static final LocalDate FIRST_DATE = LocalDate.now().plusDays(1);
+
+    private static final String INSERT_COLUMNS = "(court_id, user_id, booking_date, start_time, end_time, status, total_price, created_at, version)";
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow(JdbcState state) throws SQLException {
+        Connection connection = state.connection;
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bookings_identity " + INSERT_COLUMNS +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledSequenceBatched(JdbcState state) throws SQLException {
+        Connection connection = state.connection;
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement sequence = connection.prepareStatement("SELECT NEXT VALUE FOR bookings_pooled_seq");
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO bookings_pooled (id, " +
+                     INSERT_COLUMNS.substring(1) + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId == blockEnd) {
+                    try (ResultSet value = sequence.executeQuery()) {
+                        value.next();
+                        blockEnd = value.getLong(1) + BATCH_SIZE;
+                        nextId = blockEnd - BATCH_SIZE;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int bookingServiceImport(ServiceState state) {
+        return state.bookingService.importBookings(state.bookings);
+    }
+
+    private static void bind(PreparedStatement insert, int index, int row) throws SQLException {
+        int court = row % COURTS;
+        int slot = (row / COURTS) % SLOTS_PER_DAY;
+        LocalDate date = FIRST_DATE.plusDays(row / (COURTS * SLOTS_PER_DAY));
+        insert.setLong(index, court + 1);
+        insert.setLong(index + 1, row % 5 + 1);
+        insert.setDate(index + 2, Date.valueOf(date));
+        insert.setTime(index + 3, Time.valueOf(LocalTime.of(6 + slot, 0)));
+        insert.setTime(index + 4, Time.valueOf(LocalTime.of(7 + slot, 0)));
+        insert.setString(index + 5, "CONFIRMED");
+        insert.setBigDecimal(index + 6, new BigDecimal("80.00"));
+        insert.setTimestamp(index + 7, Timestamp.valueOf(LocalDateTime.of(2029, 12, 1, 10, 0)));
+    }
+
+    /**
+     * H2 em memória com as duas variantes da tabela bookings, esvaziadas a cada iteração
+     */
+    @State(Scope.Benchmark)
+    public static class JdbcState {
+
+        private Connection connection;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection("jdbc:h2:mem:import-jdbc;DB_CLOSE_DELAY=-1", "sa", "");
+            String columns = "court_id BIGINT NOT NULL, user_id BIGINT NOT NULL, booking_date DATE NOT NULL, " +
+                    "start_time TIME NOT NULL, end_time TIME NOT NULL, status VARCHAR(20) NOT NULL, " +
+                    "total_price DECIMAL(10, 2) NOT NULL, created_at TIMESTAMP, version BIGINT NOT NULL";
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE bookings_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + columns + ")");
+                statement.execute("CREATE TABLE bookings_pooled (id BIGINT PRIMARY KEY, " + columns + ")");
+                statement.execute("CREATE SEQUENCE bookings_pooled_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+                for (String table : List.of("bookings_identity", "bookings_pooled")) {
+                    statement.execute("CREATE INDEX idx_" + table + "_court_slot ON " + table +
+                            " (court_id, booking_date, status, start_time, end_time)");
+                }
+            }
+            connection.setAutoCommit(false);
+        }
+
+        @Setup(Level.Iteration)
+        public void truncate() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE bookings_identity");
+                statement.execute("TRUNCATE TABLE bookings_pooled");
+            }
+            connection.commit();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * Aplicação completa (sem servidor web) sobre H2 em memória com os dados do data.sql
+     */
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+
+        private ConfigurableApplicationContext context;
+        private BookingService bookingService;
+        private CourtOccupancyIndex occupancyIndex;
+        private JdbcTemplate jdbcTemplate;
+        private List<BookingDTO> bookings;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = new SpringApplicationBuilder(TennisClubApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties("spring.datasource.url=jdbc:h2:mem:import-service",
+                            "spring.jpa.defer-datasource-initialization=true",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN",
+                            "tennisclub.bookings.maintenance.enabled=false")
+                    .run();
+            bookingService = context.getBean(BookingService.class);
+            occupancyIndex = context.getBean(CourtOccupancyIndex.class);
+            jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            bookings = new ArrayList<>(ROWS);
+            for (int row = 0; row < ROWS; row++) {
+                int slot = (row / COURTS) % SLOTS_PER_DAY;
+                BookingDTO booking = new BookingDTO();
+                booking.setCourtId((long) (row % COURTS) + 1);
+                booking.setUserId((long) (row % 5) + 1);
+                // Após os dias do data.sql, para não conflitar com os agendamentos de exemplo
+                booking.setBookingDate(FIRST_DATE.plusDays(10 + row / (COURTS * SLOTS_PER_DAY)));
+                booking.setStartTime(LocalTime.of(6 + slot, 0));
+                booking.setEndTime(LocalTime.of(7 + slot, 0));
+                booking.setStatus(Booking.BookingStatus.CONFIRMED);
+                bookings.add(booking);
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            jdbcTemplate.update("DELETE FROM bookings WHERE booking_date >= ?", FIRST_DATE.plusDays(10));
+            for (long courtId = 1; courtId <= COURTS; courtId++) {
+                occupancyIndex.evictCourt(courtId);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+    }
+}
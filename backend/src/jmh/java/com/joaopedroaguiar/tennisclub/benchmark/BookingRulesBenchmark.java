@@ -0,0 +1,109 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.dto.AvailableTimeSlotDTO;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.service.BookingRules;
+import com.joaopedroaguiar.tennisclub.service.CourtOccupancyIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das regras de agendamento - grade de horários, preço, validação e conflito
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Execução: mvn -Pjmh test-compile exec:exec -Djmh.args="BookingRulesBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingRulesBenchmark {
+
+    private static final LocalDate TODAY = SyntheticBookings.DATE.minusDays(1);
+    private static final LocalTime CANDIDATE_START = LocalTime.of(21, 0);
+    private static final LocalTime CANDIDATE_END = LocalTime.of(22, 0);
+    private static final BigDecimal PRICE_PER_HOUR = new BigDecimal("80.00");
+
+    @Param({"10", "1000", "100000"})
+    private int bookingsPerDay;
+
+    private List<Booking> bookings;
+    private long[] occupancy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookings = SyntheticBookings.courtDay(bookingsPerDay);
+        occupancy = CourtOccupancyIndex.occupancyOf(bookings);
+    }
+
+    /**
+     * Carga do bitmap de ocupação do dia (custo da primeira consulta de cada quadra/dia)
+     */
+    @Benchmark
+    public long[] occupancyBitmap() {
+        return CourtOccupancyIndex.occupancyOf(bookings);
+    }
+
+    /**
+     * Geração dos slots de getAvailableTimeSlots a partir do bitmap já carregado
+     */
+    @Benchmark
+    public List<AvailableTimeSlotDTO> timeSlots() {
+        return BookingRules.timeSlots(occupancy);
+    }
+
+    /**
+     * Verificação de conflito percorrendo os agendamentos do dia (predicado das consultas)
+     */
+    @Benchmark
+    public boolean conflictScan() {
+        for (Booking booking : bookings) {
+            if (BookingRules.overlaps(booking.getStartTime(), booking.getEndTime(), CANDIDATE_START, CANDIDATE_END)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verificação de conflito no bitmap de ocupação
+     */
+    @Benchmark
+    public boolean conflictBitmap() {
+        return !CourtOccupancyIndex.isRangeFree(occupancy, CANDIDATE_START, CANDIDATE_END);
+    }
+
+    @Benchmark
+    public void validateBookingTime(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            BookingRules.validateBookingTime(booking.getBookingDate(), booking.getStartTime(), booking.getEndTime(), TODAY);
+        }
+        blackhole.consume(bookings);
+    }
+
+    @Benchmark
+    public void calculateTotalPrice(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(BookingRules.calculateTotalPrice(PRICE_PER_HOUR, booking.getStartTime(), booking.getEndTime()));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.dto.UserDTO;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.model.Court;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dos construtores de mapeamento entidade → DTO
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Execução: mvn -Pjmh test-compile exec:exec -Djmh.args="DtoMappingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int bookingsPerDay;
+
+    private List<Booking> bookings;
+    private Court court;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookings = SyntheticBookings.courtDay(bookingsPerDay);
+        court = SyntheticBookings.court();
+    }
+
+    @Benchmark
+    public void bookingDto(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(new BookingDTO(booking));
+        }
+    }
+
+    /**
+     * Mapeamento com os nomes já conhecidos (caminho de criação de agendamentos)
+     */
+    @Benchmark
+    public void bookingDtoWithNames(Blackhole blackhole) {
+        String courtName = court.getName();
+        for (Booking booking : bookings) {
+            blackhole.consume(new BookingDTO(booking, courtName, "Usuário"));
+        }
+    }
+
+    @Benchmark
+    public void userDto(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(new UserDTO(booking.getUser()));
+        }
+    }
+
+    @Benchmark
+    public CourtDTO courtDto() {
+        return new CourtDTO(court);
+    }
+}
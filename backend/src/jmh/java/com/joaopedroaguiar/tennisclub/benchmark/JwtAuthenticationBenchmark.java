@@ -0,0 +1,64 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.config.JwtTokenProvider;
+import com.joaopedroaguiar.tennisclub.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo de autenticação por requisição com token JWT: parser e chave em cache
+ * (JwtTokenProvider) vs. chave e parser montados a cada requisição
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Para comparação, a verificação BCrypt (custo 10) por requisição fica na casa de dezenas
+ * de milissegundos.
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtAuthenticationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "joaopedroaguiar-tennisclub-secret-key-2024";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenProvider = new JwtTokenProvider(SECRET, TimeUnit.DAYS.toMillis(1));
+        token = tokenProvider.generateToken(42L, "maria.silva@email.com", User.Role.CLIENT);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken cachedParser() {
+        return tokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,80 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.exception.BusinessException;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do caminho de rejeição (conflito de horário): exceção genérica com stack trace
+ * e verificação da mensagem vs. exceção de negócio tipada sem stack trace
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Execução com medição de alocação:
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="RejectionPathBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionPathBenchmark {
+
+    private static final String MESSAGE = "Já existe um agendamento para este horário na quadra ";
+
+    // Profundidade de pilha típica de uma requisição Spring MVC até o serviço
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    @Benchmark
+    public int runtimeExceptionWithMessageCheck() {
+        try {
+            rejectUntyped(stackDepth);
+            return 200;
+        } catch (RuntimeException e) {
+            return e.getMessage().contains("não encontrad") ? 404 : 400;
+        }
+    }
+
+    @Benchmark
+    public int typedStacklessException() {
+        try {
+            rejectTyped(stackDepth);
+            return 200;
+        } catch (ConflictException e) {
+            return 409;
+        } catch (BusinessException e) {
+            return 400;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void rejectUntyped(int depth) {
+        if (depth > 0) {
+            rejectUntyped(depth - 1);
+            return;
+        }
+        throw new RuntimeException(MESSAGE + "Quadra Central");
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void rejectTyped(int depth) {
+        if (depth > 0) {
+            rejectTyped(depth - 1);
+            return;
+        }
+        throw new ConflictException(MESSAGE + "Quadra Central");
+    }
+}
@@ -0,0 +1,89 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo da medição de tempo dos serviços: timer em cache por método (como no
+ * ServiceMetricsAspect) vs. timer montado e procurado no registro a cada chamada
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * O custo da instrumentação é a diferença em relação a uncounted (contenção: -t <threads>).
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ServiceTimerBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceTimerBenchmark {
+
+    private PrometheusMeterRegistry registry;
+    private Method method;
+    private final ConcurrentHashMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        method = ServiceTimerBenchmark.class.getDeclaredMethod("work", long.class);
+        // Outros métodos já registrados, como em produção
+        for (int i = 0; i < 60; i++) {
+            timer("method" + i);
+        }
+    }
+
+    @Benchmark
+    public long uncounted() {
+        return work(42);
+    }
+
+    @Benchmark
+    public long cachedTimer() {
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, m -> timer(m.getName()));
+        }
+        long start = System.nanoTime();
+        long result = work(42);
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    @Benchmark
+    public long timerLookupPerCall() {
+        long start = System.nanoTime();
+        long result = work(42);
+        timer(method.getName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private Timer timer(String methodName) {
+        return Timer.builder("tennisclub.service.calls")
+                .tag("class", "BookingService")
+                .tag("method", methodName)
+                .tag("exception", "none")
+                .register(registry);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static long work(long seed) {
+        return seed * 31 + 7;
+    }
+}
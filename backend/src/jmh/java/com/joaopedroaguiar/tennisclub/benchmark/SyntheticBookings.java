@@ -0,0 +1,62 @@
+package com.joaopedroaguiar.tennisclub.benchmark;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.model.Court;
+import com.joaopedroaguiar.tennisclub.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Massa de dados sintética para os benchmarks - agendamentos de uma quadra em um dia
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Os horários são sorteados com semente fixa dentro do horário de funcionamento, com
+ * duração de 1 a 2 horas, para que as execuções sejam comparáveis entre si.
+ */
+final class SyntheticBookings {
+
+    static final LocalDate DATE = LocalDate.of(2030, 1, 15);
+
+    private SyntheticBookings() {}
+
+    static Court court() {
+        Court court = new Court("Quadra Benchmark", "Quadra sintética", new BigDecimal("80.00"));
+        court.setId(1L);
+        return court;
+    }
+
+    static User user(long id) {
+        User user = new User("Usuário " + id, "user" + id + "@tennisclub.com", "senha", User.Role.CLIENT);
+        user.setId(id);
+        return user;
+    }
+
+    static List<Booking> courtDay(int count) {
+        Random random = new Random(42);
+        Court court = court();
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            users.add(user(id));
+        }
+
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Início entre 06:00 e 20:00, em múltiplos de 15 minutos
+            LocalTime startTime = LocalTime.of(6, 0).plusMinutes(15L * random.nextInt(57));
+            LocalTime endTime = startTime.plusMinutes(60 + 15L * random.nextInt(5));
+            Booking booking = new Booking(court, users.get(i % users.size()), DATE, startTime, endTime,
+                    new BigDecimal("160.00"));
+            booking.setId((long) i + 1);
+            booking.setStatus(i % 3 == 0 ? Booking.BookingStatus.CONFIRMED : Booking.BookingStatus.PENDING);
+            booking.setCreatedAt(LocalDateTime.of(2029, 12, 1, 10, 0));
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,51 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import com.joaopedroaguiar.tennisclub.model.User;
+
+import java.security.Principal;
+
+/**
+ * Principal AuthenticatedUser - Usuário autenticado por token JWT
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Montado apenas a partir das claims do token (sem consulta ao banco); disponível nos
+ * controladores via @AuthenticationPrincipal.
+ */
+public final class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String email;
+    private final User.Role role;
+
+    public AuthenticatedUser(Long id, String email, User.Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public User.Role getRole() {
+        return role;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                ", role=" + role +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provedor CachingAuthenticationProvider - Autenticação por email e senha com cache de
+ * credenciais verificadas
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * A verificação BCrypt custa dezenas de milissegundos de CPU por requisição. Após uma
+ * verificação bem-sucedida, o provedor guarda por um curto período um HMAC-SHA256 da senha
+ * apresentada e do hash armazenado, com chave aleatória gerada na inicialização (a senha
+ * não fica em memória e o cache não é reaproveitável fora do processo). Requisições com a
+ * mesma senha comparam apenas o HMAC. Como o hash armazenado faz parte do HMAC, uma troca
+ * ou regravação da senha invalida a entrada; usuários desativados ou excluídos são barrados
+ * antes, pelo UserDetailsService.
+ */
+public class CachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    // Limite de credenciais em cache; ao ser atingido, o cache é esvaziado
+    private static final int MAX_CACHED_CREDENTIALS = 10_000;
+
+    private final Mac prototype;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, VerifiedCredential> verified = new ConcurrentHashMap<>();
+
+    public CachingAuthenticationProvider(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        try {
+            byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível para o cache de credenciais", e);
+        }
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        if (authentication.getCredentials() == null || ttlNanos <= 0) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String username = userDetails.getUsername();
+        byte[] digest = digest(username, userDetails.getPassword(), authentication.getCredentials().toString());
+        VerifiedCredential cached = verified.get(username);
+        if (cached != null && cached.expiresAt - System.nanoTime() > 0 && MessageDigest.isEqual(cached.digest, digest)) {
+            return;
+        }
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        if (verified.size() >= MAX_CACHED_CREDENTIALS) {
+            verified.clear();
+        }
+        verified.put(username, new VerifiedCredential(digest, System.nanoTime() + ttlNanos));
+    }
+
+    private byte[] digest(String username, String passwordHash, String presentedPassword) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC não suporta clone", e);
+        }
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(passwordHash.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(presentedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class VerifiedCredential {
+
+        private final byte[] digest;
+        private final long expiresAt;
+
+        VerifiedCredential(byte[] digest, long expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
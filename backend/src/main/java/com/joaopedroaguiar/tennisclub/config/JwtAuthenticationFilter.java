@@ -0,0 +1,65 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaopedroaguiar.tennisclub.dto.ErrorResponseDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro JwtAuthenticationFilter - Autenticação stateless por token JWT
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Lê o header "Authorization: Bearer <token>", valida o token em memória pelo
+ * JwtTokenProvider e define a autenticação da requisição. Requisições sem token seguem
+ * para os demais mecanismos; um token inválido ou expirado é rejeitado com 401.
+ * Registrado apenas na cadeia do Spring Security (não é um @Component, para não ser
+ * registrado também como filtro do servlet).
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, ObjectMapper objectMapper) {
+        this.tokenProvider = tokenProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(tokenProvider.authenticate(header.substring(BEARER_PREFIX.length()).trim()));
+            SecurityContextHolder.setContext(context);
+        } catch (AuthenticationException e) {
+            SecurityContextHolder.clearContext();
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDTO(HttpStatus.UNAUTHORIZED.value(),
+                    HttpStatus.UNAUTHORIZED.getReasonPhrase(), e.getMessage(), request.getRequestURI()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
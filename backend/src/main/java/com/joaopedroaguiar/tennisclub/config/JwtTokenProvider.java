@@ -0,0 +1,110 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import com.joaopedroaguiar.tennisclub.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Componente JwtTokenProvider - Emissão e validação dos tokens JWT (HS256)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * A chave HMAC (jwt.secret), o parser e as authorities de cada perfil são montados uma única
+ * vez e compartilhados entre as requisições. A validação verifica assinatura e expiração e lê
+ * as claims (ID, email e perfil do usuário) inteiramente em memória, sem consultar o banco:
+ * alterações de perfil ou desativação do usuário só valem para tokens emitidos depois delas.
+ */
+@Component
+public class JwtTokenProvider {
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long expirationMs;
+    private final Map<User.Role, List<GrantedAuthority>> authorities = new EnumMap<>(User.Role.class);
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret, @Value("${jwt.expiration}") long expirationMs) {
+        // Falha na inicialização se a chave tiver menos de 256 bits
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.expirationMs = expirationMs;
+        for (User.Role role : User.Role.values()) {
+            authorities.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    /**
+     * Emite um token para o usuário
+     * @param userId ID do usuário
+     * @param email Email do usuário (subject)
+     * @param role Perfil do usuário
+     * @return Token JWT assinado
+     */
+    public String generateToken(Long userId, String email, User.Role role) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role.name())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Valida o token e monta a autenticação a partir das claims
+     * @param token Token JWT (sem o prefixo Bearer)
+     * @return Autenticação com AuthenticatedUser como principal
+     * @throws BadCredentialsException se o token for inválido, expirado ou incompleto
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Token inválido ou expirado");
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String roleName = claims.get(ROLE_CLAIM, String.class);
+        User.Role role = roleName != null ? parseRole(roleName) : null;
+        if (userId == null || role == null || claims.getSubject() == null) {
+            throw new BadCredentialsException("Token inválido ou expirado");
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(
+                new AuthenticatedUser(userId, claims.getSubject(), role), null, authorities.get(role));
+    }
+
+    /**
+     * @return Validade dos tokens emitidos, em milissegundos
+     */
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
+    private static User.Role parseRole(String roleName) {
+        try {
+            return User.Role.valueOf(roleName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Configuração de métricas (Micrometer)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Os timers dos serviços publicam apenas contagem, soma e máximo. As consultas de horários
+ * disponíveis, que são o caminho mais acessado, publicam também o histograma de latência
+ * (buckets do Prometheus), limitado à faixa esperada para não multiplicar as séries.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Faixa do histograma: do índice em memória (dezenas de µs) à matriz de vários dias
+    private static final Duration HISTOGRAM_MIN = Duration.ofNanos(50_000);
+    private static final Duration HISTOGRAM_MAX = Duration.ofSeconds(1);
+
+    private static final Set<String> SLOT_QUERY_METHODS = Set.of("getAvailableTimeSlots", "getAvailabilityMatrix");
+
+    @Bean
+    public MeterFilter slotQueryHistogram() {
+        DistributionStatisticConfig histogram = DistributionStatisticConfig.builder()
+                .percentilesHistogram(true)
+                .minimumExpectedValue((double) HISTOGRAM_MIN.toNanos())
+                .maximumExpectedValue((double) HISTOGRAM_MAX.toNanos())
+                .build();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (ServiceMetricsAspect.CALLS.equals(id.getName()) && SLOT_QUERY_METHODS.contains(id.getTag("method"))) {
+                    return histogram.merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaopedroaguiar.tennisclub.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro RateLimitFilter - Limite de requisições por usuário/IP em cada rota configurada
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Implementa o token bucket na forma GCRA: cada balde é um único AtomicLong com o instante
+ * teórico da próxima chegada, atualizado por compare-and-set, sem locks. A requisição é
+ * admitida se esse instante não estiver além da tolerância de rajada; caso contrário,
+ * responde 429 com Retry-After. Um balde ocioso tem o instante no passado e equivale a um
+ * balde cheio: a varredura periódica o remove sem alterar o comportamento. O número de
+ * chaves por rota é limitado; além do limite, as novas chaves dividem um balde de
+ * transbordo, de modo que memória e custo por requisição não crescem com o número de chaves.
+ * Executa após o Spring Security, para usar o usuário autenticado como chave.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RouteLimiter> routes = new ArrayList<>();
+    private final int maxKeys;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.maxKeys = properties.getMaxKeys();
+        this.objectMapper = objectMapper;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routes.add(new RouteLimiter(route, meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteLimiter route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = route.acquire(clientKey(request), System.nanoTime());
+        if (waitNanos > 0) {
+            route.rejected.increment();
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDTO(HttpStatus.TOO_MANY_REQUESTS.value(),
+                    HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                    "Limite de requisições excedido. Tente novamente em " + retryAfterSeconds + "s.", request.getRequestURI()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Remove os baldes ociosos (já recarregados por completo)
+     */
+    @Scheduled(fixedDelayString = "${tennisclub.rate-limit.sweep-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (RouteLimiter route : routes) {
+            route.evictIdle(now);
+        }
+    }
+
+    // Métodos privados auxiliares
+
+    private RouteLimiter match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (RouteLimiter route : routes) {
+            if (route.method != null && !route.method.equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            if (route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private final class RouteLimiter {
+
+        private final String method;
+        private final PathPattern pattern;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+        private final Counter rejected;
+
+        RouteLimiter(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            if (route.getRequests() <= 0 || route.getPath() == null) {
+                throw new IllegalStateException("Rota de rate limit inválida: " + route.getName());
+            }
+            this.method = route.getMethod() == null || route.getMethod().isBlank() ? null : route.getMethod();
+            this.pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            this.intervalNanos = route.getPeriod().toNanos() / route.getRequests();
+            int burst = route.getBurst() != null ? route.getBurst() : route.getRequests();
+            this.toleranceNanos = intervalNanos * Math.max(1, burst);
+            this.rejected = Counter.builder("tennisclub.ratelimit.rejected")
+                    .description("Requisições rejeitadas pelo limite de requisições (429)")
+                    .tag("route", route.getName())
+                    .register(meterRegistry);
+            Gauge.builder("tennisclub.ratelimit.keys", buckets, ConcurrentHashMap::size)
+                    .description("Chaves (usuário/IP) com balde ativo")
+                    .tag("route", route.getName())
+                    .register(meterRegistry);
+        }
+
+        /**
+         * @return 0 se a requisição foi admitida; caso contrário, a espera em nanossegundos
+         */
+        long acquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.size() < maxKeys ? buckets.computeIfAbsent(key, k -> new AtomicLong(now)) : overflow;
+            }
+            for (;;) {
+                long arrival = bucket.get();
+                long next = (arrival - now > 0 ? arrival : now) + intervalNanos;
+                long wait = next - now - toleranceNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void evictIdle(long now) {
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+}
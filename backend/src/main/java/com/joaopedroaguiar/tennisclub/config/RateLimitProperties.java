@@ -0,0 +1,129 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do limite de requisições (tennisclub.rate-limit)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada rota tem o seu orçamento: até "requests" requisições por "period" para cada usuário
+ * autenticado (ou IP, para requisições anônimas), com rajadas de até "burst" requisições.
+ */
+@ConfigurationProperties(prefix = "tennisclub.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Limite de chaves (usuário/IP) por rota; além dele, as novas chaves dividem um único balde
+    private int maxKeys = 100_000;
+
+    // Intervalo da remoção dos baldes ociosos
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private List<Route> routes = new ArrayList<>();
+
+    // Getters e Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Orçamento de uma rota (método HTTP e padrão de caminho, relativo ao context path)
+     */
+    public static class Route {
+
+        private String name;
+        private String method;
+        private String path;
+        private int requests;
+        private Duration period = Duration.ofMinutes(1);
+        private Integer burst;
+
+        // Getters e Setters
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return Método HTTP (vazio: qualquer método)
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public void setRequests(int requests) {
+            this.requests = requests;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        /**
+         * @return Tamanho máximo da rajada (padrão: o número de requisições do período)
+         */
+        public Integer getBurst() {
+            return burst;
+        }
+
+        public void setBurst(Integer burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração de tarefas agendadas
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Habilita o processamento de @Scheduled (manutenção periódica dos agendamentos).
+ * O TaskScheduler criado pelo Spring Boot também é um TaskExecutor; quem precisa do
+ * executor da aplicação deve injetá-lo pelo nome "applicationTaskExecutor".
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,92 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inicializador SchemaUpgradeInitializer - Ajustes de dados que o ddl-auto não faz
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * O projeto não usa ferramenta de migração: em produção o schema é mantido pelo Hibernate
+ * (ddl-auto: update), que cria tabelas, colunas e sequências, mas não ajusta os dados
+ * existentes. Executado na inicialização, depois do schema e do data.sql e antes de qualquer
+ * escrita da aplicação; cada ajuste é idempotente.
+ *
+ * Versão otimista: a coluna version foi adicionada a tabelas com dados. Um UPDATE condicionado
+ * à versão nunca encontra NULL e o Hibernate trata versão nula como entidade não versionada;
+ * as linhas antigas recebem a versão 0 (a coluna é NOT NULL DEFAULT 0 quando criada agora).
+ *
+ * Sequência dos agendamentos: bancos migrados de IDENTITY (AUTO_INCREMENT) recebem uma
+ * bookings_seq nova, iniciada em 1, enquanto os IDs existentes já foram usados. A sequência
+ * é avançada (nunca recuada) para além de MAX(id), considerando a alocação em blocos.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class SchemaUpgradeInitializer {
+
+    // Deve acompanhar o allocationSize de Booking: o otimizador pooled usa os IDs
+    // (valor - BOOKINGS_ALLOCATION_SIZE, valor] para cada valor lido da sequência
+    private static final int BOOKINGS_ALLOCATION_SIZE = 50;
+
+    private static final List<String> VERSIONED_TABLES = List.of("bookings", "courts", "users");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // O EntityManagerFactory garante que o schema já foi criado/atualizado pelo Hibernate
+    public SchemaUpgradeInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void upgrade() {
+        backfillVersions();
+        synchronizeBookingSequence();
+    }
+
+    /**
+     * Atribui a versão 0 às linhas criadas antes da coluna version
+     */
+    void backfillVersions() {
+        for (String table : VERSIONED_TABLES) {
+            jdbcTemplate.update("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+        }
+    }
+
+    /**
+     * Avança a bookings_seq para que o próximo bloco alocado comece depois de MAX(id)
+     */
+    void synchronizeBookingSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM bookings", Long.class);
+        long next = maxId + BOOKINGS_ALLOCATION_SIZE;
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        if ("MySQL".equalsIgnoreCase(database) || "MariaDB".equalsIgnoreCase(database)) {
+            // Sequência emulada por tabela (uma linha com o próximo valor)
+            jdbcTemplate.update("UPDATE bookings_seq SET next_val = ? WHERE next_val < ?", next, next);
+            return;
+        }
+        Long current = currentSequenceValue();
+        if (current == null || current < next) {
+            jdbcTemplate.execute("ALTER SEQUENCE bookings_seq RESTART WITH " + next);
+        }
+    }
+
+    /**
+     * @return Próximo valor da sequência (sem consumi-lo), ou null se o banco não o expuser
+     */
+    private Long currentSequenceValue() {
+        try {
+            return jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                    "WHERE UPPER(SEQUENCE_NAME) = 'BOOKINGS_SEQ'", Long.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
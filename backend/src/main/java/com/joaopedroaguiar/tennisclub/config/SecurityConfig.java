@@ -1,18 +1,29 @@
 package com.joaopedroaguiar.tennisclub.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaopedroaguiar.tennisclub.service.UserAuthenticationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Configuração de Segurança - Spring Security Configuration
@@ -30,21 +41,28 @@ public class SecurityConfig {
      * Para fins de demonstração do portfólio, a segurança está simplificada
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Login (emissão de tokens JWT)
+                .requestMatchers("/auth/**").permitAll()
                 // Permite acesso público aos endpoints da API para demonstração
                 .requestMatchers("/users/**").permitAll()
                 .requestMatchers("/courts/**").permitAll()
                 .requestMatchers("/bookings/**").permitAll()
+                .requestMatchers("/availability/**").permitAll()
                 // Permite acesso ao Swagger UI e documentação da API
                 .requestMatchers("/swagger-ui/**").permitAll()
                 .requestMatchers("/swagger-ui.html").permitAll()
                 .requestMatchers("/api-docs/**").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
+                // Permite acesso às métricas e health check (Actuator)
+                .requestMatchers("/actuator/**").permitAll()
+                // Permite o encaminhamento de erros (ex.: respostas de erro de streams SSE)
+                .requestMatchers("/error").permitAll()
                 // Permite acesso ao console H2 para desenvolvimento
                 .requestMatchers("/h2-console/**").permitAll()
                 // Permite acesso aos recursos estáticos
@@ -53,6 +71,10 @@ public class SecurityConfig {
                 // Qualquer outra requisição requer autenticação
                 .anyRequest().authenticated()
             )
+            // Autenticação por token JWT (Authorization: Bearer), validado em memória
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, objectMapper), BasicAuthenticationFilter.class)
+            // Autenticação HTTP Basic (email e senha) a cada requisição, sem sessão
+            .httpBasic(Customizer.withDefaults())
             // Desabilita frame options para permitir H2 Console
             .headers(headers -> headers.frameOptions().disable());
 
@@ -89,10 +111,39 @@ public class SecurityConfig {
 
     /**
      * Bean para codificação de senhas
+     * Novos hashes são gravados com prefixo ({bcrypt}) e o custo configurado; hashes antigos,
+     * sem prefixo, continuam válidos e são regravados no próximo login, assim como hashes
+     * com custo menor que o configurado
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${tennisclub.security.bcrypt-strength:10}") int bcryptStrength) {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Autenticação pelos usuários do banco, com cache de usuários e de credenciais verificadas
+     * e regravação do hash da senha quando desatualizado
+     */
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(UserAuthenticationService userAuthenticationService,
+                                                            PasswordEncoder passwordEncoder,
+                                                            @Value("${tennisclub.security.credential-cache.ttl:5m}") Duration credentialTtl) {
+        DaoAuthenticationProvider provider = new CachingAuthenticationProvider(credentialTtl);
+        provider.setUserDetailsService(userAuthenticationService);
+        provider.setUserDetailsPasswordService(userAuthenticationService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
+    }
+
+    /**
+     * Gerenciador usado no login (/auth/login) para verificar email e senha
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(DaoAuthenticationProvider authenticationProvider) {
+        return new ProviderManager(authenticationProvider);
     }
 }
 
@@ -0,0 +1,116 @@
+package com.joaopedroaguiar.tennisclub.config;
+
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aspecto ServiceMetricsAspect - Tempo de execução dos métodos públicos dos serviços
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Registra cada chamada externa aos métodos públicos de BookingService, CourtService e
+ * UserService no timer tennisclub.service.calls (tags class, method e exception) e conta
+ * as rejeições por conflito (409) em tennisclub.service.conflicts. Os meters são criados
+ * uma única vez por método e mantidos em cache: o caminho de sucesso custa duas leituras
+ * do relógio, uma consulta ao mapa e o registro no timer, sem montar tags a cada chamada.
+ * O aspecto envolve a transação, de modo que o tempo inclui o commit.
+ * Chamadas internas de um serviço a ele mesmo não passam pelo proxy e não são medidas.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    static final String CALLS = "tennisclub.service.calls";
+    static final String CONFLICTS = "tennisclub.service.conflicts";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.joaopedroaguiar.tennisclub.service.BookingService.*(..))"
+            + " || execution(public * com.joaopedroaguiar.tennisclub.service.CourtService.*(..))"
+            + " || execution(public * com.joaopedroaguiar.tennisclub.service.UserService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, MethodMeters::new);
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodMeters.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Meters de um método: o timer de sucesso é criado na primeira chamada; os timers por tipo
+     * de exceção e o contador de conflitos, apenas quando ocorrem
+     */
+    private final class MethodMeters {
+
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final ConcurrentHashMap<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private volatile Counter conflicts;
+
+        MethodMeters(Method method) {
+            this.className = method.getDeclaringClass().getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer(NO_EXCEPTION);
+        }
+
+        Timer failure(Throwable e) {
+            if (e instanceof ConflictException || e instanceof OptimisticLockingFailureException) {
+                conflicts().increment();
+            }
+            return failures.computeIfAbsent(e.getClass(), type -> timer(type.getSimpleName()));
+        }
+
+        private Counter conflicts() {
+            Counter counter = conflicts;
+            if (counter == null) {
+                counter = Counter.builder(CONFLICTS)
+                        .description("Operações rejeitadas por conflito (horário ocupado, transição inválida ou atualização concorrente)")
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .register(meterRegistry);
+                conflicts = counter;
+            }
+            return counter;
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder(CALLS)
+                    .description("Tempo de execução dos métodos públicos dos serviços")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.dto.AuthTokenDTO;
+import com.joaopedroaguiar.tennisclub.dto.LoginDTO;
+import com.joaopedroaguiar.tennisclub.service.AuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador AuthController - Emissão de tokens de acesso (JWT)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+@RestController
+@RequestMapping("/auth")
+@Tag(name = "Autenticação", description = "Login e emissão de tokens JWT - João Pedro Aguiar TennisClub")
+@CrossOrigin(origins = "*")
+public class AuthController {
+
+    @Autowired
+    private AuthService authService;
+
+    @Operation(summary = "Login", 
+               description = "Valida email e senha e emite um token de acesso (Bearer) - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Token emitido com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "401", description = "Email ou senha inválidos")
+    })
+    @PostMapping("/login")
+    public ResponseEntity<AuthTokenDTO> login(@Valid @RequestBody LoginDTO loginDTO) {
+        AuthTokenDTO token = authService.login(loginDTO);
+        return ResponseEntity.ok(token);
+    }
+}
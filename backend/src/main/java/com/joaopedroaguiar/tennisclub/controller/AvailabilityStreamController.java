@@ -0,0 +1,49 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.service.AvailabilityStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+/**
+ * Controlador AvailabilityStreamController - Stream de disponibilidade das quadras (SSE)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ * 
+ * Substitui a consulta periódica de /bookings/available-times: o cliente assina uma
+ * quadra/data e recebe o snapshot dos horários seguido das alterações incrementais.
+ */
+@RestController
+@RequestMapping("/availability")
+@Tag(name = "Disponibilidade", description = "Stream de disponibilidade das quadras - João Pedro Aguiar TennisClub")
+@CrossOrigin(origins = "*")
+public class AvailabilityStreamController {
+
+    @Autowired
+    private AvailabilityStreamService availabilityStreamService;
+
+    @Operation(summary = "Assinar disponibilidade de uma quadra", 
+               description = "Abre um stream Server-Sent Events com o evento 'snapshot' (todos os horários do dia) seguido de eventos 'change' com os horários alterados - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream aberto com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada"),
+        @ApiResponse(responseCode = "503", description = "Limite de assinantes atingido")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(
+            @Parameter(description = "ID da quadra") @RequestParam Long courtId,
+            @Parameter(description = "Data acompanhada (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        SseEmitter emitter = availabilityStreamService.subscribe(courtId, date);
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,7 +1,13 @@
 package com.joaopedroaguiar.tennisclub.controller;
 
+import com.joaopedroaguiar.tennisclub.dto.AvailabilityMatrixDTO;
 import com.joaopedroaguiar.tennisclub.dto.AvailableTimeSlotDTO;
 import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.dto.BookingPageDTO;
+import com.joaopedroaguiar.tennisclub.dto.BulkStatusResultDTO;
+import com.joaopedroaguiar.tennisclub.dto.BulkStatusUpdateDTO;
+import com.joaopedroaguiar.tennisclub.dto.RecurringBookingDTO;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
 import com.joaopedroaguiar.tennisclub.model.Booking;
 import com.joaopedroaguiar.tennisclub.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +18,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,9 +40,13 @@ import java.util.Map;
 @RestController
 @RequestMapping("/bookings")
 @Tag(name = "Agendamentos", description = "API para gerenciamento de agendamentos de quadras - João Pedro Aguiar TennisClub")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {BookingController.TRUNCATED_HEADER, BookingController.NEXT_CURSOR_HEADER})
 public class BookingController {
 
+    // Cabeçalhos das listagens legadas truncadas: o cursor continua na rota /page correspondente
+    static final String TRUNCATED_HEADER = "X-Result-Truncated";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private BookingService bookingService;
 
@@ -40,29 +54,66 @@ public class BookingController {
                description = "Cria um novo agendamento de quadra no sistema - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Agendamento criado com sucesso"),
-        @ApiResponse(responseCode = "400", description = "Dados inválidos ou conflito de horário"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Conflito de horário"),
         @ApiResponse(responseCode = "404", description = "Quadra ou usuário não encontrado")
     })
     @PostMapping
     public ResponseEntity<BookingDTO> createBooking(@Valid @RequestBody BookingDTO bookingDTO) {
-        try {
-            BookingDTO createdBooking = bookingService.createBooking(bookingDTO);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdBooking);
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("não encontrado")) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.badRequest().build();
-        }
+        BookingDTO createdBooking = bookingService.createBooking(bookingDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdBooking);
+    }
+
+    @Operation(summary = "Criar série de agendamentos recorrentes", 
+               description = "Cria agendamentos semanais na mesma quadra e horário; a série é aceita ou rejeitada por inteiro - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Série criada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Conflito de horário em alguma ocorrência"),
+        @ApiResponse(responseCode = "404", description = "Quadra ou usuário não encontrado")
+    })
+    @PostMapping("/recurring")
+    public ResponseEntity<List<BookingDTO>> createRecurringBooking(@Valid @RequestBody RecurringBookingDTO recurringDTO) {
+        List<BookingDTO> createdBookings = bookingService.createRecurringBooking(recurringDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdBookings);
+    }
+
+    @Operation(summary = "Importar agendamentos em lote", 
+               description = "Importa agendamentos de outro sistema em uma única transação, com inserção em lotes - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Agendamentos importados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Conflito de horário"),
+        @ApiResponse(responseCode = "404", description = "Quadra ou usuário não encontrado")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<Map<String, Integer>> importBookings(@RequestBody List<BookingDTO> bookingDTOs) {
+        int imported = bookingService.importBookings(bookingDTOs);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("imported", imported));
     }
 
-    @Operation(summary = "Listar todos os agendamentos", 
-               description = "Retorna lista de todos os agendamentos cadastrados - João Pedro Aguiar TennisClub")
+    @Deprecated
+    @Operation(summary = "Listar todos os agendamentos", deprecated = true,
+               description = "Retorna até 1000 agendamentos por data, horário e ID; acima disso a lista é truncada " +
+                       "(cabeçalhos X-Result-Truncated e X-Next-Cursor). Use GET /bookings/page - João Pedro Aguiar TennisClub")
     @ApiResponse(responseCode = "200", description = "Lista de agendamentos retornada com sucesso")
     @GetMapping
     public ResponseEntity<List<BookingDTO>> getAllBookings() {
-        List<BookingDTO> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+        return truncatedList(bookingService.getAllBookings());
+    }
+
+    @Operation(summary = "Listar agendamentos paginados", 
+               description = "Retorna agendamentos ordenados por data, horário e ID usando paginação por cursor - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de agendamentos retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<BookingPageDTO> getBookingsPage(
+            @Parameter(description = "Token de continuação retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo 200)") @RequestParam(required = false) Integer size) {
+        BookingPageDTO page = bookingService.getBookingsPage(cursor, size);
+        return ResponseEntity.ok(page);
     }
 
     @Operation(summary = "Buscar agendamento por ID", 
@@ -74,12 +125,8 @@ public class BookingController {
     @GetMapping("/{id}")
     public ResponseEntity<BookingDTO> getBookingById(
             @Parameter(description = "ID do agendamento") @PathVariable Long id) {
-        try {
-            BookingDTO booking = bookingService.getBookingById(id);
-            return ResponseEntity.ok(booking);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        BookingDTO booking = bookingService.getBookingById(id);
+        return ResponseEntity.ok(booking);
     }
 
     @Operation(summary = "Buscar agendamentos por usuário", 
@@ -91,16 +138,14 @@ public class BookingController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<BookingDTO>> getBookingsByUser(
             @Parameter(description = "ID do usuário") @PathVariable Long userId) {
-        try {
-            List<BookingDTO> bookings = bookingService.getBookingsByUser(userId);
-            return ResponseEntity.ok(bookings);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        List<BookingDTO> bookings = bookingService.getBookingsByUser(userId);
+        return ResponseEntity.ok(bookings);
     }
 
-    @Operation(summary = "Buscar agendamentos por quadra", 
-               description = "Retorna agendamentos de uma quadra específica - João Pedro Aguiar TennisClub")
+    @Deprecated
+    @Operation(summary = "Buscar agendamentos por quadra", deprecated = true,
+               description = "Retorna até 1000 agendamentos de uma quadra; acima disso a lista é truncada " +
+                       "(cabeçalhos X-Result-Truncated e X-Next-Cursor). Use GET /bookings/court/{courtId}/page - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de agendamentos retornada com sucesso"),
         @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
@@ -108,12 +153,23 @@ public class BookingController {
     @GetMapping("/court/{courtId}")
     public ResponseEntity<List<BookingDTO>> getBookingsByCourt(
             @Parameter(description = "ID da quadra") @PathVariable Long courtId) {
-        try {
-            List<BookingDTO> bookings = bookingService.getBookingsByCourt(courtId);
-            return ResponseEntity.ok(bookings);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        return truncatedList(bookingService.getBookingsByCourt(courtId));
+    }
+
+    @Operation(summary = "Buscar agendamentos por quadra (paginado)", 
+               description = "Retorna agendamentos de uma quadra usando paginação por cursor - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de agendamentos retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
+    })
+    @GetMapping("/court/{courtId}/page")
+    public ResponseEntity<BookingPageDTO> getBookingsByCourtPage(
+            @Parameter(description = "ID da quadra") @PathVariable Long courtId,
+            @Parameter(description = "Token de continuação retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo 200)") @RequestParam(required = false) Integer size) {
+        BookingPageDTO page = bookingService.getBookingsByCourtPage(courtId, cursor, size);
+        return ResponseEntity.ok(page);
     }
 
     @Operation(summary = "Buscar agendamentos por data", 
@@ -127,14 +183,53 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
-    @Operation(summary = "Buscar agendamentos por status", 
-               description = "Retorna agendamentos com status específico - João Pedro Aguiar TennisClub")
+    @Operation(summary = "Exportar agendamentos (NDJSON)", 
+               description = "Exporta agendamentos de um período em JSON delimitado por linhas, via streaming - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido")
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Data inicial (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Data final (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "ID da quadra (opcional)") @RequestParam(required = false) Long courtId,
+            @Parameter(description = "Status do agendamento (opcional)") @RequestParam(required = false) Booking.BookingStatus status) {
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Data inicial deve ser anterior ou igual à data final");
+        }
+        StreamingResponseBody body = output -> bookingService.exportBookings(startDate, endDate, courtId, status, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    @Deprecated
+    @Operation(summary = "Buscar agendamentos por status", deprecated = true,
+               description = "Retorna até 1000 agendamentos com status específico; acima disso a lista é truncada " +
+                       "(cabeçalhos X-Result-Truncated e X-Next-Cursor). Use GET /bookings/status/{status}/page - João Pedro Aguiar TennisClub")
     @ApiResponse(responseCode = "200", description = "Lista de agendamentos retornada com sucesso")
     @GetMapping("/status/{status}")
     public ResponseEntity<List<BookingDTO>> getBookingsByStatus(
             @Parameter(description = "Status do agendamento") @PathVariable Booking.BookingStatus status) {
-        List<BookingDTO> bookings = bookingService.getBookingsByStatus(status);
-        return ResponseEntity.ok(bookings);
+        return truncatedList(bookingService.getBookingsByStatus(status));
+    }
+
+    @Operation(summary = "Buscar agendamentos por status (paginado)", 
+               description = "Retorna agendamentos com status específico usando paginação por cursor - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de agendamentos retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping("/status/{status}/page")
+    public ResponseEntity<BookingPageDTO> getBookingsByStatusPage(
+            @Parameter(description = "Status do agendamento") @PathVariable Booking.BookingStatus status,
+            @Parameter(description = "Token de continuação retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo 200)") @RequestParam(required = false) Integer size) {
+        BookingPageDTO page = bookingService.getBookingsByStatusPage(status, cursor, size);
+        return ResponseEntity.ok(page);
     }
 
     @Operation(summary = "Buscar agendamentos futuros por usuário", 
@@ -146,12 +241,8 @@ public class BookingController {
     @GetMapping("/user/{userId}/future")
     public ResponseEntity<List<BookingDTO>> getFutureBookingsByUser(
             @Parameter(description = "ID do usuário") @PathVariable Long userId) {
-        try {
-            List<BookingDTO> bookings = bookingService.getFutureBookingsByUser(userId);
-            return ResponseEntity.ok(bookings);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        List<BookingDTO> bookings = bookingService.getFutureBookingsByUser(userId);
+        return ResponseEntity.ok(bookings);
     }
 
     @Operation(summary = "Buscar agendamentos de hoje", 
@@ -167,19 +258,40 @@ public class BookingController {
                description = "Retorna horários disponíveis para uma quadra em uma data específica - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de horários disponíveis retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Horários inalterados desde o ETag informado (If-None-Match)"),
         @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
     })
     @GetMapping("/available-times")
     public ResponseEntity<List<AvailableTimeSlotDTO>> getAvailableTimeSlots(
             @Parameter(description = "ID da quadra") @RequestParam Long courtId,
             @Parameter(description = "Data para verificar disponibilidade (formato: yyyy-MM-dd)") 
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        try {
-            List<AvailableTimeSlotDTO> availableSlots = bookingService.getAvailableTimeSlots(courtId, date);
-            return ResponseEntity.ok(availableSlots);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        String etag = bookingService.getAvailableTimeSlotsETag(courtId, date);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
         }
+        List<AvailableTimeSlotDTO> availableSlots = bookingService.getAvailableTimeSlots(courtId, date);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(availableSlots);
+    }
+
+    @Operation(summary = "Grade de disponibilidade", 
+               description = "Retorna a disponibilidade de várias quadras em um período (máx. 31 dias), com uma máscara de slots livres por quadra e dia - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Grade de disponibilidade retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
+    })
+    @GetMapping("/availability-matrix")
+    public ResponseEntity<AvailabilityMatrixDTO> getAvailabilityMatrix(
+            @Parameter(description = "Data inicial (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Data final (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "IDs das quadras (padrão: todas as quadras ativas)") 
+            @RequestParam(required = false) List<Long> courtIds) {
+        AvailabilityMatrixDTO matrix = bookingService.getAvailabilityMatrix(startDate, endDate, courtIds);
+        return ResponseEntity.ok(matrix);
     }
 
     @Operation(summary = "Atualizar agendamento", 
@@ -187,74 +299,72 @@ public class BookingController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Agendamento atualizado com sucesso"),
         @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
-        @ApiResponse(responseCode = "400", description = "Dados inválidos ou conflito de horário")
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "409", description = "Conflito de horário")
     })
     @PutMapping("/{id}")
     public ResponseEntity<BookingDTO> updateBooking(
             @Parameter(description = "ID do agendamento") @PathVariable Long id,
             @Valid @RequestBody BookingDTO bookingDTO) {
-        try {
-            BookingDTO updatedBooking = bookingService.updateBooking(id, bookingDTO);
-            return ResponseEntity.ok(updatedBooking);
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("não encontrado")) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.badRequest().build();
-        }
+        BookingDTO updatedBooking = bookingService.updateBooking(id, bookingDTO);
+        return ResponseEntity.ok(updatedBooking);
     }
 
     @Operation(summary = "Atualizar status do agendamento", 
                description = "Altera o status de um agendamento - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Status do agendamento alterado com sucesso"),
-        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado")
+        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Transição de status inválida")
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<BookingDTO> updateBookingStatus(
             @Parameter(description = "ID do agendamento") @PathVariable Long id,
             @RequestBody Map<String, Booking.BookingStatus> statusRequest) {
-        try {
-            Booking.BookingStatus status = statusRequest.get("status");
-            BookingDTO updatedBooking = bookingService.updateBookingStatus(id, status);
-            return ResponseEntity.ok(updatedBooking);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        Booking.BookingStatus status = statusRequest.get("status");
+        BookingDTO updatedBooking = bookingService.updateBookingStatus(id, status);
+        return ResponseEntity.ok(updatedBooking);
+    }
+
+    @Operation(summary = "Atualizar status em lote",
+               description = "Aplica uma transição de status a vários agendamentos, por lista de IDs ou por data e status atual - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Transição aplicada; resultado individual por ID"),
+        @ApiResponse(responseCode = "400", description = "Seleção inválida ou acima do limite"),
+        @ApiResponse(responseCode = "409", description = "Agendamentos alterados concorrentemente")
+    })
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkStatusResultDTO> bulkUpdateStatus(@Valid @RequestBody BulkStatusUpdateDTO request) {
+        BulkStatusResultDTO result = bookingService.bulkUpdateStatus(request);
+        return ResponseEntity.ok(result);
     }
 
     @Operation(summary = "Cancelar agendamento", 
                description = "Cancela um agendamento específico - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Agendamento cancelado com sucesso"),
-        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado")
+        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Transição de status inválida")
     })
     @PatchMapping("/{id}/cancel")
     public ResponseEntity<BookingDTO> cancelBooking(
             @Parameter(description = "ID do agendamento") @PathVariable Long id) {
-        try {
-            BookingDTO canceledBooking = bookingService.cancelBooking(id);
-            return ResponseEntity.ok(canceledBooking);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        BookingDTO canceledBooking = bookingService.cancelBooking(id);
+        return ResponseEntity.ok(canceledBooking);
     }
 
     @Operation(summary = "Confirmar agendamento", 
                description = "Confirma um agendamento específico - João Pedro Aguiar TennisClub")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Agendamento confirmado com sucesso"),
-        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado")
+        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Transição de status inválida")
     })
     @PatchMapping("/{id}/confirm")
     public ResponseEntity<BookingDTO> confirmBooking(
             @Parameter(description = "ID do agendamento") @PathVariable Long id) {
-        try {
-            BookingDTO confirmedBooking = bookingService.confirmBooking(id);
-            return ResponseEntity.ok(confirmedBooking);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        BookingDTO confirmedBooking = bookingService.confirmBooking(id);
+        return ResponseEntity.ok(confirmedBooking);
     }
 
     @Operation(summary = "Excluir agendamento", 
@@ -266,12 +376,8 @@ public class BookingController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBooking(
             @Parameter(description = "ID do agendamento") @PathVariable Long id) {
-        try {
-            bookingService.deleteBooking(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        bookingService.deleteBooking(id);
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Contar agendamentos por status", 
@@ -283,5 +389,16 @@ public class BookingController {
         long count = bookingService.countBookingsByStatus(status);
         return ResponseEntity.ok(Map.of("count", count));
     }
-}
 
+    /**
+     * Resposta das listagens legadas: apenas a lista (contrato original) e, se truncada, os
+     * cabeçalhos com o cursor para continuar na rota paginada
+     */
+    private ResponseEntity<List<BookingDTO>> truncatedList(BookingPageDTO page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.isHasMore()) {
+            response.header(TRUNCATED_HEADER, "true").header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+}
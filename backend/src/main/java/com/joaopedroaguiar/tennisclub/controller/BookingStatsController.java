@@ -0,0 +1,73 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.dto.DailyTotalsDTO;
+import com.joaopedroaguiar.tennisclub.dto.UtilizationDTO;
+import com.joaopedroaguiar.tennisclub.service.BookingStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controlador BookingStatsController - Relatórios de receita e ocupação das quadras
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ * 
+ * Os relatórios usam totais diários pré-calculados e não percorrem a tabela de agendamentos.
+ */
+@RestController
+@RequestMapping("/bookings/stats")
+@Tag(name = "Relatórios", description = "Receita e ocupação das quadras - João Pedro Aguiar TennisClub")
+@CrossOrigin(origins = "*")
+public class BookingStatsController {
+
+    @Autowired
+    private BookingStatsService bookingStatsService;
+
+    @Operation(summary = "Totais diários", 
+               description = "Retorna quantidade, horas reservadas e receita por quadra, dia e status (máx. 366 dias) - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Totais retornados com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
+    })
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailyTotalsDTO>> getDailyTotals(
+            @Parameter(description = "Data inicial (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Data final (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "IDs das quadras (padrão: todas as quadras)") 
+            @RequestParam(required = false) List<Long> courtIds) {
+        List<DailyTotalsDTO> totals = bookingStatsService.getDailyTotals(startDate, endDate, courtIds);
+        return ResponseEntity.ok(totals);
+    }
+
+    @Operation(summary = "Ocupação das quadras", 
+               description = "Retorna a ocupação (%) e a receita por quadra, agrupadas por dia, semana ou mês (máx. 366 dias) - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ocupação retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada")
+    })
+    @GetMapping("/utilization")
+    public ResponseEntity<List<UtilizationDTO>> getUtilization(
+            @Parameter(description = "Data inicial (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Data final (formato: yyyy-MM-dd)") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "IDs das quadras (padrão: todas as quadras ativas)") 
+            @RequestParam(required = false) List<Long> courtIds,
+            @Parameter(description = "Agrupamento: DAY, WEEK ou MONTH") 
+            @RequestParam(defaultValue = "WEEK") UtilizationDTO.Period period) {
+        List<UtilizationDTO> utilization = bookingStatsService.getUtilization(startDate, endDate, courtIds, period);
+        return ResponseEntity.ok(utilization);
+    }
+}
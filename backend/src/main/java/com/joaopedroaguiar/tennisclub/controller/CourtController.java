@@ -9,9 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -47,20 +49,34 @@ public class CourtController {
 
     @Operation(summary = "Listar todas as quadras", 
                description = "Retorna lista de todas as quadras cadastradas - João Pedro Aguiar TennisClub")
-    @ApiResponse(responseCode = "200", description = "Lista de quadras retornada com sucesso")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de quadras retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Lista inalterada desde o ETag informado (If-None-Match)")
+    })
     @GetMapping
-    public ResponseEntity<List<CourtDTO>> getAllCourts() {
+    public ResponseEntity<List<CourtDTO>> getAllCourts(WebRequest webRequest) {
+        String etag = courtService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CourtDTO> courts = courtService.getAllCourts();
-        return ResponseEntity.ok(courts);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(courts);
     }
 
     @Operation(summary = "Listar quadras ativas", 
                description = "Retorna lista de quadras ativas disponíveis para agendamento - João Pedro Aguiar TennisClub")
-    @ApiResponse(responseCode = "200", description = "Lista de quadras ativas retornada com sucesso")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de quadras ativas retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Lista inalterada desde o ETag informado (If-None-Match)")
+    })
     @GetMapping("/active")
-    public ResponseEntity<List<CourtDTO>> getActiveCourts() {
+    public ResponseEntity<List<CourtDTO>> getActiveCourts(WebRequest webRequest) {
+        String etag = courtService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<CourtDTO> courts = courtService.getActiveCourts();
-        return ResponseEntity.ok(courts);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(courts);
     }
 
     @Operation(summary = "Listar quadras ativas por preço", 
@@ -90,12 +106,8 @@ public class CourtController {
     @GetMapping("/{id}")
     public ResponseEntity<CourtDTO> getCourtById(
             @Parameter(description = "ID da quadra") @PathVariable Long id) {
-        try {
-            CourtDTO court = courtService.getCourtById(id);
-            return ResponseEntity.ok(court);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        CourtDTO court = courtService.getCourtById(id);
+        return ResponseEntity.ok(court);
     }
 
     @Operation(summary = "Buscar quadras por nome", 
@@ -137,12 +149,8 @@ public class CourtController {
     })
     @GetMapping("/cheapest")
     public ResponseEntity<CourtDTO> getCheapestCourt() {
-        try {
-            CourtDTO court = courtService.getCheapestCourt();
-            return ResponseEntity.ok(court);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        CourtDTO court = courtService.getCheapestCourt();
+        return ResponseEntity.ok(court);
     }
 
     @Operation(summary = "Atualizar quadra", 
@@ -156,12 +164,8 @@ public class CourtController {
     public ResponseEntity<CourtDTO> updateCourt(
             @Parameter(description = "ID da quadra") @PathVariable Long id,
             @Valid @RequestBody CourtDTO courtDTO) {
-        try {
-            CourtDTO updatedCourt = courtService.updateCourt(id, courtDTO);
-            return ResponseEntity.ok(updatedCourt);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        CourtDTO updatedCourt = courtService.updateCourt(id, courtDTO);
+        return ResponseEntity.ok(updatedCourt);
     }
 
     @Operation(summary = "Ativar/Desativar quadra", 
@@ -174,13 +178,9 @@ public class CourtController {
     public ResponseEntity<CourtDTO> toggleCourtStatus(
             @Parameter(description = "ID da quadra") @PathVariable Long id,
             @RequestBody Map<String, Boolean> statusRequest) {
-        try {
-            Boolean isActive = statusRequest.get("isActive");
-            CourtDTO updatedCourt = courtService.toggleCourtStatus(id, isActive);
-            return ResponseEntity.ok(updatedCourt);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        Boolean isActive = statusRequest.get("isActive");
+        CourtDTO updatedCourt = courtService.toggleCourtStatus(id, isActive);
+        return ResponseEntity.ok(updatedCourt);
     }
 
     @Operation(summary = "Excluir quadra", 
@@ -192,12 +192,8 @@ public class CourtController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCourt(
             @Parameter(description = "ID da quadra") @PathVariable Long id) {
-        try {
-            courtService.deleteCourt(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        courtService.deleteCourt(id);
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Contar quadras ativas", 
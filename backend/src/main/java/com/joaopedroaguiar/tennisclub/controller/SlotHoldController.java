@@ -0,0 +1,91 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.dto.SlotHoldDTO;
+import com.joaopedroaguiar.tennisclub.service.SlotHoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador SlotHoldController - Reservas temporárias de horário antes do checkout
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ * 
+ * O cliente reserva o horário ao iniciar o agendamento e o converte em agendamento
+ * confirmado no checkout; reservas abandonadas expiram sem ocupar o banco.
+ */
+@RestController
+@RequestMapping("/bookings/holds")
+@Tag(name = "Reservas Temporárias", description = "Reserva temporária de horários - João Pedro Aguiar TennisClub")
+@CrossOrigin(origins = "*")
+public class SlotHoldController {
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+
+    @Operation(summary = "Reservar horário temporariamente", 
+               description = "Ocupa o horário por um prazo limitado até o checkout - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Reserva temporária criada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Horário indisponível"),
+        @ApiResponse(responseCode = "503", description = "Limite de reservas temporárias atingido")
+    })
+    @PostMapping
+    public ResponseEntity<SlotHoldDTO> createHold(@Valid @RequestBody SlotHoldDTO holdDTO) {
+        SlotHoldDTO hold = slotHoldService.hold(holdDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    @Operation(summary = "Buscar reserva temporária", 
+               description = "Retorna uma reserva temporária ativa - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reserva temporária encontrada"),
+        @ApiResponse(responseCode = "404", description = "Reserva temporária não encontrada ou expirada")
+    })
+    @GetMapping("/{holdId}")
+    public ResponseEntity<SlotHoldDTO> getHold(
+            @Parameter(description = "Identificador da reserva temporária") @PathVariable String holdId) {
+        SlotHoldDTO hold = slotHoldService.getHold(holdId);
+        return ResponseEntity.ok(hold);
+    }
+
+    @Operation(summary = "Concluir reserva temporária (checkout)", 
+               description = "Converte a reserva temporária em agendamento confirmado - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Agendamento criado com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Reserva temporária, quadra ou usuário não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Conflito de horário")
+    })
+    @PostMapping("/{holdId}/checkout")
+    public ResponseEntity<BookingDTO> checkout(
+            @Parameter(description = "Identificador da reserva temporária") @PathVariable String holdId,
+            @RequestBody(required = false) Map<String, String> checkoutRequest) {
+        String notes = checkoutRequest != null ? checkoutRequest.get("notes") : null;
+        BookingDTO booking = slotHoldService.checkout(holdId, notes);
+        return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+    }
+
+    @Operation(summary = "Liberar reserva temporária", 
+               description = "Libera o horário antes do prazo de expiração - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Reserva temporária liberada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Reserva temporária não encontrada ou expirada")
+    })
+    @DeleteMapping("/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "Identificador da reserva temporária") @PathVariable String holdId) {
+        slotHoldService.release(holdId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -43,12 +43,8 @@ public class UserController {
     })
     @PostMapping
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody CreateUserDTO createUserDTO) {
-        try {
-            UserDTO createdUser = userService.createUser(createUserDTO);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
-        }
+        UserDTO createdUser = userService.createUser(createUserDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
     }
 
     @Operation(summary = "Listar todos os usuários", 
@@ -69,12 +65,8 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<UserDTO> getUserById(
             @Parameter(description = "ID do usuário") @PathVariable Long id) {
-        try {
-            UserDTO user = userService.getUserById(id);
-            return ResponseEntity.ok(user);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        UserDTO user = userService.getUserById(id);
+        return ResponseEntity.ok(user);
     }
 
     @Operation(summary = "Buscar usuário por email", 
@@ -86,12 +78,8 @@ public class UserController {
     @GetMapping("/email/{email}")
     public ResponseEntity<UserDTO> getUserByEmail(
             @Parameter(description = "Email do usuário") @PathVariable String email) {
-        try {
-            UserDTO user = userService.getUserByEmail(email);
-            return ResponseEntity.ok(user);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        UserDTO user = userService.getUserByEmail(email);
+        return ResponseEntity.ok(user);
     }
 
     @Operation(summary = "Buscar usuários por nome", 
@@ -134,15 +122,8 @@ public class UserController {
     public ResponseEntity<UserDTO> updateUser(
             @Parameter(description = "ID do usuário") @PathVariable Long id,
             @Valid @RequestBody UserDTO userDTO) {
-        try {
-            UserDTO updatedUser = userService.updateUser(id, userDTO);
-            return ResponseEntity.ok(updatedUser);
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("não encontrado")) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
-        }
+        UserDTO updatedUser = userService.updateUser(id, userDTO);
+        return ResponseEntity.ok(updatedUser);
     }
 
     @Operation(summary = "Ativar/Desativar usuário", 
@@ -155,13 +136,9 @@ public class UserController {
     public ResponseEntity<UserDTO> toggleUserStatus(
             @Parameter(description = "ID do usuário") @PathVariable Long id,
             @RequestBody Map<String, Boolean> statusRequest) {
-        try {
-            Boolean isActive = statusRequest.get("isActive");
-            UserDTO updatedUser = userService.toggleUserStatus(id, isActive);
-            return ResponseEntity.ok(updatedUser);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        Boolean isActive = statusRequest.get("isActive");
+        UserDTO updatedUser = userService.toggleUserStatus(id, isActive);
+        return ResponseEntity.ok(updatedUser);
     }
 
     @Operation(summary = "Excluir usuário", 
@@ -173,12 +150,8 @@ public class UserController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(
             @Parameter(description = "ID do usuário") @PathVariable Long id) {
-        try {
-            userService.deleteUser(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Contar usuários ativos", 
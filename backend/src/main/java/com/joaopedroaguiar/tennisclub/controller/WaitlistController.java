@@ -0,0 +1,73 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.dto.WaitlistEntryDTO;
+import com.joaopedroaguiar.tennisclub.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador WaitlistController - Lista de espera dos horários ocupados
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ * 
+ * Em vez de consultar a disponibilidade repetidamente, o cliente se inscreve na fila do
+ * horário e acompanha a inscrição; quando o horário é liberado, o primeiro da fila recebe
+ * uma reserva temporária para concluir pelo checkout de /bookings/holds.
+ */
+@RestController
+@RequestMapping("/bookings/waitlist")
+@Tag(name = "Lista de Espera", description = "Lista de espera de horários ocupados - João Pedro Aguiar TennisClub")
+@CrossOrigin(origins = "*")
+public class WaitlistController {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Operation(summary = "Entrar na lista de espera", 
+               description = "Inscreve o usuário na fila de um horário ocupado - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Inscrição criada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "404", description = "Quadra não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Horário disponível ou usuário já inscrito"),
+        @ApiResponse(responseCode = "503", description = "Limite da lista de espera atingido")
+    })
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDTO> joinWaitlist(@Valid @RequestBody WaitlistEntryDTO entryDTO) {
+        WaitlistEntryDTO entry = waitlistService.join(entryDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
+    @Operation(summary = "Buscar inscrição na lista de espera", 
+               description = "Retorna a posição na fila ou a reserva temporária oferecida - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Inscrição encontrada"),
+        @ApiResponse(responseCode = "404", description = "Inscrição não encontrada")
+    })
+    @GetMapping("/{entryId}")
+    public ResponseEntity<WaitlistEntryDTO> getEntry(
+            @Parameter(description = "Identificador da inscrição") @PathVariable String entryId) {
+        WaitlistEntryDTO entry = waitlistService.getEntry(entryId);
+        return ResponseEntity.ok(entry);
+    }
+
+    @Operation(summary = "Sair da lista de espera", 
+               description = "Remove a inscrição da fila do horário - João Pedro Aguiar TennisClub")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Inscrição removida com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Inscrição não encontrada")
+    })
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> leaveWaitlist(
+            @Parameter(description = "Identificador da inscrição") @PathVariable String entryId) {
+        waitlistService.leave(entryId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import com.joaopedroaguiar.tennisclub.model.User;
+
+/**
+ * DTO AuthTokenDTO - Token de acesso emitido no login
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * O token deve ser enviado no header "Authorization: Bearer <accessToken>".
+ */
+public class AuthTokenDTO {
+
+    private String accessToken;
+    private String tokenType = "Bearer";
+    private long expiresIn;
+    private Long userId;
+    private User.Role role;
+
+    // Construtores
+    public AuthTokenDTO() {}
+
+    public AuthTokenDTO(String accessToken, long expiresIn, Long userId, User.Role role) {
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    // Getters e Setters
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    /**
+     * @return Validade do token em segundos
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public User.Role getRole() {
+        return role;
+    }
+
+    public void setRole(User.Role role) {
+        this.role = role;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthTokenDTO{" +
+                "tokenType='" + tokenType + '\'' +
+                ", expiresIn=" + expiresIn +
+                ", userId=" + userId +
+                ", role=" + role +
+                '}';
+    }
+}
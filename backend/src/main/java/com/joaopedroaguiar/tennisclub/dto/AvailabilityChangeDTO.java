@@ -0,0 +1,61 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO AvailabilityChangeDTO - Mensagem do stream de disponibilidade de uma quadra/data
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * A primeira mensagem de cada assinatura traz todos os slots do dia (snapshot); as
+ * seguintes trazem apenas os slots cuja disponibilidade pode ter mudado (change).
+ */
+public class AvailabilityChangeDTO {
+
+    private Long courtId;
+    private LocalDate date;
+    private List<AvailableTimeSlotDTO> slots;
+
+    // Construtores
+    public AvailabilityChangeDTO() {}
+
+    public AvailabilityChangeDTO(Long courtId, LocalDate date, List<AvailableTimeSlotDTO> slots) {
+        this.courtId = courtId;
+        this.date = date;
+        this.slots = slots;
+    }
+
+    // Getters e Setters
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public List<AvailableTimeSlotDTO> getSlots() {
+        return slots;
+    }
+
+    public void setSlots(List<AvailableTimeSlotDTO> slots) {
+        this.slots = slots;
+    }
+
+    @Override
+    public String toString() {
+        return "AvailabilityChangeDTO{" +
+                "courtId=" + courtId +
+                ", date=" + date +
+                ", slots=" + (slots != null ? slots.size() : 0) +
+                '}';
+    }
+}
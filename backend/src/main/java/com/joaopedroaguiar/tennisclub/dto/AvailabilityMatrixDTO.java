@@ -0,0 +1,135 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO AvailabilityMatrixDTO - Grade de disponibilidade de várias quadras em um período
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada quadra traz uma máscara de bits por dia do período (na ordem das datas): o bit i
+ * indica que o slot iniciado em openingTime + i × slotMinutes está livre.
+ */
+public class AvailabilityMatrixDTO {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime openingTime;
+    private int slotMinutes;
+    private int slotCount;
+    private List<CourtAvailability> courts;
+
+    // Construtores
+    public AvailabilityMatrixDTO() {}
+
+    public AvailabilityMatrixDTO(LocalDate startDate, LocalDate endDate, LocalTime openingTime,
+                                 int slotMinutes, int slotCount, List<CourtAvailability> courts) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.openingTime = openingTime;
+        this.slotMinutes = slotMinutes;
+        this.slotCount = slotCount;
+        this.courts = courts;
+    }
+
+    // Getters e Setters
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalTime getOpeningTime() {
+        return openingTime;
+    }
+
+    public void setOpeningTime(LocalTime openingTime) {
+        this.openingTime = openingTime;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public void setSlotMinutes(int slotMinutes) {
+        this.slotMinutes = slotMinutes;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public void setSlotCount(int slotCount) {
+        this.slotCount = slotCount;
+    }
+
+    public List<CourtAvailability> getCourts() {
+        return courts;
+    }
+
+    public void setCourts(List<CourtAvailability> courts) {
+        this.courts = courts;
+    }
+
+    /**
+     * Disponibilidade de uma quadra: uma máscara de slots livres por dia do período
+     */
+    public static class CourtAvailability {
+
+        private Long courtId;
+        private String courtName;
+        private long[] days;
+
+        public CourtAvailability() {}
+
+        public CourtAvailability(Long courtId, String courtName, long[] days) {
+            this.courtId = courtId;
+            this.courtName = courtName;
+            this.days = days;
+        }
+
+        public Long getCourtId() {
+            return courtId;
+        }
+
+        public void setCourtId(Long courtId) {
+            this.courtId = courtId;
+        }
+
+        public String getCourtName() {
+            return courtName;
+        }
+
+        public void setCourtName(String courtName) {
+            this.courtName = courtName;
+        }
+
+        public long[] getDays() {
+            return days;
+        }
+
+        public void setDays(long[] days) {
+            this.days = days;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AvailabilityMatrixDTO{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", courts=" + (courts != null ? courts.size() : 0) +
+                '}';
+    }
+}
@@ -43,11 +43,18 @@ public class BookingDTO {
     public BookingDTO() {}
 
     public BookingDTO(Booking booking) {
+        this(booking, booking.getCourt().getName(), booking.getUser().getName());
+    }
+
+    /**
+     * Constrói o DTO com os nomes já conhecidos, sem inicializar as associações lazy
+     */
+    public BookingDTO(Booking booking, String courtName, String userName) {
         this.id = booking.getId();
         this.courtId = booking.getCourt().getId();
-        this.courtName = booking.getCourt().getName();
+        this.courtName = courtName;
         this.userId = booking.getUser().getId();
-        this.userName = booking.getUser().getName();
+        this.userName = userName;
         this.bookingDate = booking.getBookingDate();
         this.startTime = booking.getStartTime();
         this.endTime = booking.getEndTime();
@@ -0,0 +1,67 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import java.util.List;
+
+/**
+ * DTO BookingPageDTO - Página de agendamentos com paginação por cursor
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class BookingPageDTO {
+
+    private List<BookingDTO> content;
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+
+    // Construtores
+    public BookingPageDTO() {}
+
+    public BookingPageDTO(List<BookingDTO> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.size = content.size();
+    }
+
+    // Getters e Setters
+    public List<BookingDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<BookingDTO> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingPageDTO{" +
+                "size=" + size +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
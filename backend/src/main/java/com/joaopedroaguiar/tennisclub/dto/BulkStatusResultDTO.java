@@ -0,0 +1,126 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * DTO BulkStatusResultDTO - Resultado de uma transição de status em lote
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Traz o total de agendamentos alterados e o resultado individual de cada ID solicitado.
+ */
+public class BulkStatusResultDTO {
+
+    /**
+     * Resultado da transição para um agendamento
+     */
+    public enum Outcome {
+        UPDATED,            // Transição aplicada
+        UNCHANGED,          // O agendamento já estava no status solicitado
+        INVALID_TRANSITION, // Transição não permitida a partir do status atual
+        CONFLICT,           // Status alterado concorrentemente durante a operação
+        NOT_FOUND           // Agendamento inexistente
+    }
+
+    private Booking.BookingStatus status;
+    private int requested;
+    private int updated;
+    private List<Item> results;
+
+    // Construtores
+    public BulkStatusResultDTO() {}
+
+    public BulkStatusResultDTO(Booking.BookingStatus status, int requested, int updated, List<Item> results) {
+        this.status = status;
+        this.requested = requested;
+        this.updated = updated;
+        this.results = results;
+    }
+
+    // Getters e Setters
+    public Booking.BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Booking.BookingStatus status) {
+        this.status = status;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Item> results) {
+        this.results = results;
+    }
+
+    /**
+     * Resultado individual: ID, status anterior (ausente se não encontrado) e resultado
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+
+        private Long id;
+        private Booking.BookingStatus previousStatus;
+        private Outcome outcome;
+
+        public Item() {}
+
+        public Item(Long id, Booking.BookingStatus previousStatus, Outcome outcome) {
+            this.id = id;
+            this.previousStatus = previousStatus;
+            this.outcome = outcome;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Booking.BookingStatus getPreviousStatus() {
+            return previousStatus;
+        }
+
+        public void setPreviousStatus(Booking.BookingStatus previousStatus) {
+            this.previousStatus = previousStatus;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkStatusResultDTO{" +
+                "status=" + status +
+                ", requested=" + requested +
+                ", updated=" + updated +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO BulkStatusUpdateDTO - Transição de status aplicada a vários agendamentos de uma vez
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Os agendamentos são selecionados por uma lista de IDs ou por um filtro de data e status
+ * atual (ex.: todos os CONFIRMED de ontem), nunca pelos dois ao mesmo tempo.
+ */
+public class BulkStatusUpdateDTO {
+
+    @NotNull(message = "Status é obrigatório")
+    private Booking.BookingStatus status;
+
+    private List<Long> ids;
+
+    private LocalDate bookingDate;
+
+    private Booking.BookingStatus currentStatus;
+
+    // Construtores
+    public BulkStatusUpdateDTO() {}
+
+    // Getters e Setters
+    public Booking.BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Booking.BookingStatus status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public Booking.BookingStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(Booking.BookingStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkStatusUpdateDTO{" +
+                "status=" + status +
+                ", ids=" + (ids != null ? ids.size() : 0) +
+                ", bookingDate=" + bookingDate +
+                ", currentStatus=" + currentStatus +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO DailyTotalsDTO - Totais de agendamentos de uma quadra em um dia, para um status
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class DailyTotalsDTO {
+
+    private Long courtId;
+    private LocalDate date;
+    private Booking.BookingStatus status;
+    private long bookings;
+    private BigDecimal bookedHours;
+    private BigDecimal revenue;
+
+    // Construtores
+    public DailyTotalsDTO() {}
+
+    public DailyTotalsDTO(Long courtId, LocalDate date, Booking.BookingStatus status, long bookings,
+                          BigDecimal bookedHours, BigDecimal revenue) {
+        this.courtId = courtId;
+        this.date = date;
+        this.status = status;
+        this.bookings = bookings;
+        this.bookedHours = bookedHours;
+        this.revenue = revenue;
+    }
+
+    // Getters e Setters
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Booking.BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Booking.BookingStatus status) {
+        this.status = status;
+    }
+
+    public long getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(long bookings) {
+        this.bookings = bookings;
+    }
+
+    public BigDecimal getBookedHours() {
+        return bookedHours;
+    }
+
+    public void setBookedHours(BigDecimal bookedHours) {
+        this.bookedHours = bookedHours;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyTotalsDTO{" +
+                "courtId=" + courtId +
+                ", date=" + date +
+                ", status=" + status +
+                ", bookings=" + bookings +
+                ", bookedHours=" + bookedHours +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
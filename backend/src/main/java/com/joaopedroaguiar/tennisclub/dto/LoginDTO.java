@@ -0,0 +1,48 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO LoginDTO - Credenciais para emissão do token de acesso
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class LoginDTO {
+
+    @NotBlank(message = "Email é obrigatório")
+    private String email;
+
+    @NotBlank(message = "Senha é obrigatória")
+    private String password;
+
+    // Construtores
+    public LoginDTO() {}
+
+    public LoginDTO(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    // Getters e Setters
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    @Override
+    public String toString() {
+        return "LoginDTO{" +
+                "email='" + email + '\'' +
+                '}';
+    }
+}
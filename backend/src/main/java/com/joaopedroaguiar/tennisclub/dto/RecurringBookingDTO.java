@@ -0,0 +1,142 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO RecurringBookingDTO - Data Transfer Object para séries de agendamentos recorrentes
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Representa a regra de recorrência semanal: a mesma quadra e o mesmo horário a cada
+ * intervalo de semanas, a partir da primeira data.
+ */
+public class RecurringBookingDTO {
+
+    @NotNull(message = "ID da quadra é obrigatório")
+    private Long courtId;
+
+    @NotNull(message = "ID do usuário é obrigatório")
+    private Long userId;
+
+    @NotNull(message = "Data da primeira ocorrência é obrigatória")
+    private LocalDate firstDate;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+
+    @NotNull(message = "Horário de fim é obrigatório")
+    private LocalTime endTime;
+
+    @NotNull(message = "Número de ocorrências é obrigatório")
+    @Min(value = 1, message = "A série deve ter pelo menos 1 ocorrência")
+    @Max(value = 52, message = "A série deve ter no máximo 52 ocorrências")
+    private Integer occurrences;
+
+    @Min(value = 1, message = "Intervalo mínimo é de 1 semana")
+    @Max(value = 4, message = "Intervalo máximo é de 4 semanas")
+    private Integer intervalWeeks = 1;
+
+    private String notes;
+
+    // Construtores
+    public RecurringBookingDTO() {}
+
+    // Métodos utilitários
+
+    /**
+     * Expande a regra de recorrência nas datas de cada ocorrência
+     * @return Datas das ocorrências, em ordem
+     */
+    public List<LocalDate> getOccurrenceDates() {
+        int interval = intervalWeeks != null ? intervalWeeks : 1;
+        List<LocalDate> dates = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            dates.add(firstDate.plusWeeks((long) i * interval));
+        }
+        return dates;
+    }
+
+    // Getters e Setters
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public void setFirstDate(LocalDate firstDate) {
+        this.firstDate = firstDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Integer getOccurrences() {
+        return occurrences;
+    }
+
+    public void setOccurrences(Integer occurrences) {
+        this.occurrences = occurrences;
+    }
+
+    public Integer getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public void setIntervalWeeks(Integer intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    @Override
+    public String toString() {
+        return "RecurringBookingDTO{" +
+                "courtId=" + courtId +
+                ", userId=" + userId +
+                ", firstDate=" + firstDate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", occurrences=" + occurrences +
+                ", intervalWeeks=" + intervalWeeks +
+                '}';
+    }
+}
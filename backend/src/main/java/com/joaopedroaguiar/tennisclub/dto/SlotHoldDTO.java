@@ -0,0 +1,117 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DTO SlotHoldDTO - Reserva temporária de um horário antes da confirmação do agendamento
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class SlotHoldDTO {
+
+    private String holdId;
+
+    @NotNull(message = "ID da quadra é obrigatório")
+    private Long courtId;
+
+    @NotNull(message = "ID do usuário é obrigatório")
+    private Long userId;
+
+    @NotNull(message = "Data do agendamento é obrigatória")
+    private LocalDate bookingDate;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+
+    @NotNull(message = "Horário de fim é obrigatório")
+    private LocalTime endTime;
+
+    private LocalDateTime expiresAt;
+
+    // Construtores
+    public SlotHoldDTO() {}
+
+    public SlotHoldDTO(String holdId, Long courtId, Long userId, LocalDate bookingDate,
+                       LocalTime startTime, LocalTime endTime, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.courtId = courtId;
+        this.userId = userId;
+        this.bookingDate = bookingDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters e Setters
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SlotHoldDTO{" +
+                "holdId='" + holdId + '\'' +
+                ", courtId=" + courtId +
+                ", userId=" + userId +
+                ", bookingDate=" + bookingDate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
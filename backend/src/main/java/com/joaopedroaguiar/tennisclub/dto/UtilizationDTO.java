@@ -0,0 +1,132 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO UtilizationDTO - Ocupação e receita de uma quadra em um período (dia, semana ou mês)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * As horas reservadas consideram agendamentos PENDING, CONFIRMED e COMPLETED; a receita
+ * considera apenas CONFIRMED e COMPLETED. As horas disponíveis correspondem ao horário de
+ * funcionamento do clube em cada dia do período.
+ */
+public class UtilizationDTO {
+
+    /**
+     * Agrupamento do relatório (semanas de segunda a domingo)
+     */
+    public enum Period {
+        DAY, WEEK, MONTH
+    }
+
+    private Long courtId;
+    private String courtName;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long bookings;
+    private BigDecimal bookedHours;
+    private BigDecimal availableHours;
+    private BigDecimal utilizationPercent;
+    private BigDecimal revenue;
+
+    // Construtores
+    public UtilizationDTO() {}
+
+    public UtilizationDTO(Long courtId, String courtName, LocalDate periodStart, LocalDate periodEnd, long bookings,
+                          BigDecimal bookedHours, BigDecimal availableHours, BigDecimal utilizationPercent, BigDecimal revenue) {
+        this.courtId = courtId;
+        this.courtName = courtName;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.bookings = bookings;
+        this.bookedHours = bookedHours;
+        this.availableHours = availableHours;
+        this.utilizationPercent = utilizationPercent;
+        this.revenue = revenue;
+    }
+
+    // Getters e Setters
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public String getCourtName() {
+        return courtName;
+    }
+
+    public void setCourtName(String courtName) {
+        this.courtName = courtName;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public void setPeriodEnd(LocalDate periodEnd) {
+        this.periodEnd = periodEnd;
+    }
+
+    public long getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(long bookings) {
+        this.bookings = bookings;
+    }
+
+    public BigDecimal getBookedHours() {
+        return bookedHours;
+    }
+
+    public void setBookedHours(BigDecimal bookedHours) {
+        this.bookedHours = bookedHours;
+    }
+
+    public BigDecimal getAvailableHours() {
+        return availableHours;
+    }
+
+    public void setAvailableHours(BigDecimal availableHours) {
+        this.availableHours = availableHours;
+    }
+
+    public BigDecimal getUtilizationPercent() {
+        return utilizationPercent;
+    }
+
+    public void setUtilizationPercent(BigDecimal utilizationPercent) {
+        this.utilizationPercent = utilizationPercent;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public String toString() {
+        return "UtilizationDTO{" +
+                "courtId=" + courtId +
+                ", periodStart=" + periodStart +
+                ", periodEnd=" + periodEnd +
+                ", utilizationPercent=" + utilizationPercent +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.joaopedroaguiar.tennisclub.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DTO WaitlistEntryDTO - Inscrição na lista de espera de um horário ocupado
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Enquanto aguarda (WAITING), position indica a posição aproximada na fila. Quando o
+ * horário é liberado, a inscrição passa a OFFERED e holdId identifica a reserva temporária
+ * oferecida, que deve ser concluída pelo checkout até offerExpiresAt.
+ */
+public class WaitlistEntryDTO {
+
+    public enum Status {
+        WAITING, OFFERED
+    }
+
+    private String entryId;
+
+    @NotNull(message = "ID da quadra é obrigatório")
+    private Long courtId;
+
+    @NotNull(message = "ID do usuário é obrigatório")
+    private Long userId;
+
+    @NotNull(message = "Data do agendamento é obrigatória")
+    private LocalDate bookingDate;
+
+    @NotNull(message = "Horário de início é obrigatório")
+    private LocalTime startTime;
+
+    @NotNull(message = "Horário de fim é obrigatório")
+    private LocalTime endTime;
+
+    private Status status;
+    private Long position;
+    private String holdId;
+    private LocalDateTime offerExpiresAt;
+
+    // Construtores
+    public WaitlistEntryDTO() {}
+
+    public WaitlistEntryDTO(String entryId, Long courtId, Long userId, LocalDate bookingDate, LocalTime startTime,
+                            LocalTime endTime, Status status, Long position, String holdId, LocalDateTime offerExpiresAt) {
+        this.entryId = entryId;
+        this.courtId = courtId;
+        this.userId = userId;
+        this.bookingDate = bookingDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.position = position;
+        this.holdId = holdId;
+        this.offerExpiresAt = offerExpiresAt;
+    }
+
+    // Getters e Setters
+    public String getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(String entryId) {
+        this.entryId = entryId;
+    }
+
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public void setCourtId(Long courtId) {
+        this.courtId = courtId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public String getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+
+    public LocalDateTime getOfferExpiresAt() {
+        return offerExpiresAt;
+    }
+
+    public void setOfferExpiresAt(LocalDateTime offerExpiresAt) {
+        this.offerExpiresAt = offerExpiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WaitlistEntryDTO{" +
+                "entryId='" + entryId + '\'' +
+                ", courtId=" + courtId +
+                ", userId=" + userId +
+                ", bookingDate=" + bookingDate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", status=" + status +
+                ", position=" + position +
+                '}';
+    }
+}
@@ -0,0 +1,146 @@
+package com.joaopedroaguiar.tennisclub.event;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Evento BookingChangedEvent - Alteração de um agendamento já confirmada no banco
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Publicado pelo BookingService somente após o commit da transação, com o estado do
+ * agendamento antes e depois da alteração (before é null na criação e after é null na
+ * exclusão). Quando o evento é entregue, o CourtOccupancyIndex já reflete a alteração.
+ */
+public final class BookingChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    private final Type type;
+    private final Long bookingId;
+    private final Long courtId;
+    private final Snapshot before;
+    private final Snapshot after;
+
+    private BookingChangedEvent(Type type, Long bookingId, Long courtId, Snapshot before, Snapshot after) {
+        this.type = type;
+        this.bookingId = bookingId;
+        this.courtId = courtId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static BookingChangedEvent created(Booking booking) {
+        return new BookingChangedEvent(Type.CREATED, booking.getId(), booking.getCourt().getId(), null, Snapshot.of(booking));
+    }
+
+    public static BookingChangedEvent updated(Snapshot before, Booking booking) {
+        return new BookingChangedEvent(Type.UPDATED, booking.getId(), booking.getCourt().getId(), before, Snapshot.of(booking));
+    }
+
+    public static BookingChangedEvent statusChanged(Booking booking, Booking.BookingStatus from, Booking.BookingStatus to) {
+        return new BookingChangedEvent(Type.STATUS_CHANGED, booking.getId(), booking.getCourt().getId(),
+                Snapshot.of(booking, from), Snapshot.of(booking, to));
+    }
+
+    public static BookingChangedEvent deleted(Booking booking) {
+        return new BookingChangedEvent(Type.DELETED, booking.getId(), booking.getCourt().getId(), Snapshot.of(booking), null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingChangedEvent{" +
+                "type=" + type +
+                ", bookingId=" + bookingId +
+                ", courtId=" + courtId +
+                ", before=" + before +
+                ", after=" + after +
+                '}';
+    }
+
+    /**
+     * Estado imutável de um agendamento em um instante (data, horário, status e preço)
+     */
+    public static final class Snapshot {
+
+        private final LocalDate bookingDate;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final Booking.BookingStatus status;
+        private final BigDecimal totalPrice;
+
+        private Snapshot(LocalDate bookingDate, LocalTime startTime, LocalTime endTime, Booking.BookingStatus status,
+                         BigDecimal totalPrice) {
+            this.bookingDate = bookingDate;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.status = status;
+            this.totalPrice = totalPrice;
+        }
+
+        public static Snapshot of(Booking booking) {
+            return of(booking, booking.getStatus());
+        }
+
+        public static Snapshot of(Booking booking, Booking.BookingStatus status) {
+            return new Snapshot(booking.getBookingDate(), booking.getStartTime(), booking.getEndTime(), status,
+                    booking.getTotalPrice());
+        }
+
+        public LocalDate getBookingDate() {
+            return bookingDate;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public Booking.BookingStatus getStatus() {
+            return status;
+        }
+
+        public BigDecimal getTotalPrice() {
+            return totalPrice;
+        }
+
+        /**
+         * @return true se o agendamento ocupava o horário (PENDING ou CONFIRMED)
+         */
+        public boolean isActive() {
+            return status.isActive();
+        }
+
+        @Override
+        public String toString() {
+            return bookingDate + " " + startTime + "-" + endTime + " " + status;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.joaopedroaguiar.tennisclub.event;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evento BookingDaysChangedEvent - Alteração em massa de agendamentos já confirmada no banco
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Publicado uma única vez, após o commit, por operações que criam muitos agendamentos
+ * (importação), no lugar de um BookingChangedEvent por registro. Informa apenas os dias
+ * afetados de cada quadra: os ouvintes recalculam esses dias a partir do banco ou do
+ * CourtOccupancyIndex, que já reflete a alteração. Como só ocupa horários, o evento não
+ * interessa à lista de espera.
+ */
+public final class BookingDaysChangedEvent {
+
+    private final Map<Long, Set<LocalDate>> daysByCourt;
+    private final int bookingCount;
+
+    public BookingDaysChangedEvent(Map<Long, Set<LocalDate>> daysByCourt, int bookingCount) {
+        this.daysByCourt = Map.copyOf(daysByCourt);
+        this.bookingCount = bookingCount;
+    }
+
+    /**
+     * @return Datas afetadas, por ID da quadra
+     */
+    public Map<Long, Set<LocalDate>> getDaysByCourt() {
+        return daysByCourt;
+    }
+
+    public int getBookingCount() {
+        return bookingCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingDaysChangedEvent{" +
+                "courts=" + daysByCourt.size() +
+                ", bookingCount=" + bookingCount +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.joaopedroaguiar.tennisclub.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Evento SlotHoldEvent - Criação ou liberação de uma reserva temporária de horário
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Publicado pelo SlotHoldService quando o horário passa a ser (ou deixa de ser) ocupado
+ * por uma reserva temporária; o CourtOccupancyIndex já reflete a alteração. A conversão
+ * de uma reserva em agendamento não gera este evento: o horário continua ocupado.
+ */
+public final class SlotHoldEvent {
+
+    public enum Type {
+        HELD, RELEASED
+    }
+
+    private final Type type;
+    private final Long courtId;
+    private final LocalDate bookingDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public SlotHoldEvent(Type type, Long courtId, LocalDate bookingDate, LocalTime startTime, LocalTime endTime) {
+        this.type = type;
+        this.courtId = courtId;
+        this.bookingDate = bookingDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getCourtId() {
+        return courtId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public String toString() {
+        return "SlotHoldEvent{" +
+                "type=" + type +
+                ", courtId=" + courtId +
+                ", bookingDate=" + bookingDate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                '}';
+    }
+}
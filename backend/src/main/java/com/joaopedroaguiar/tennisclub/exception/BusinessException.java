@@ -0,0 +1,20 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+/**
+ * Exceção BusinessException - Base das falhas de negócio esperadas
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Recursos inexistentes, conflitos de horário e dados inválidos fazem parte do fluxo
+ * normal da aplicação (especialmente os conflitos nos picos de agendamento). Por isso
+ * estas exceções não capturam stack trace nem aceitam supressão: o custo de lançá-las
+ * é apenas o da alocação do objeto. São convertidas em respostas HTTP pelo
+ * GlobalExceptionHandler.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+/**
+ * Exceção ConflictException - Conflito com o estado atual (HTTP 409), ex.: horário já
+ * reservado ou email já cadastrado
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class ConflictException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
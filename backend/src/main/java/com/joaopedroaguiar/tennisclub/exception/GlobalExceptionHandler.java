@@ -0,0 +1,80 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+import com.joaopedroaguiar.tennisclub.dto.ErrorResponseDTO;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.stream.Collectors;
+
+/**
+ * Tratamento centralizado de erros - converte exceções de negócio em respostas HTTP
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleNotFound(ResourceNotFoundException e, HttpServletRequest request) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleConflict(ConflictException e, HttpServletRequest request) {
+        return error(HttpStatus.CONFLICT, e.getMessage(), request);
+    }
+
+    /**
+     * Atualização concorrente detectada pelo controle de versão (@Version) das entidades
+     */
+    @ExceptionHandler({ObjectOptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLock(RuntimeException e, HttpServletRequest request) {
+        return error(HttpStatus.CONFLICT, "Registro alterado concorrentemente. Recarregue e tente novamente.", request);
+    }
+
+    /**
+     * Falha de login: a mesma mensagem para email inexistente, senha incorreta ou usuário desativado
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleAuthentication(AuthenticationException e, HttpServletRequest request) {
+        return error(HttpStatus.UNAUTHORIZED, "Email ou senha inválidos", request);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleValidation(ValidationException e, HttpServletRequest request) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceUnavailable(ServiceUnavailableException e, HttpServletRequest request) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), request);
+    }
+
+    /**
+     * Erros de Bean Validation (@Valid) nos corpos das requisições
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidArgument(MethodArgumentNotValidException e, HttpServletRequest request) {
+        ErrorResponseDTO body = new ErrorResponseDTO(HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Dados inválidos", request.getRequestURI());
+        body.setDetails(e.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .collect(Collectors.toList()));
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    // O Content-Type é fixado para que o erro também seja escrito em rotas que produzem
+    // outros formatos (ex.: text/event-stream, application/x-ndjson)
+    private static ResponseEntity<ErrorResponseDTO> error(HttpStatus status, String message, HttpServletRequest request) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDTO(status.value(), status.getReasonPhrase(), message, request.getRequestURI()));
+    }
+}
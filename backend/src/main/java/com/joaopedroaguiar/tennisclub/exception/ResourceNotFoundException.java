@@ -0,0 +1,14 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+/**
+ * Exceção ResourceNotFoundException - Recurso inexistente (HTTP 404)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class ResourceNotFoundException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+/**
+ * Exceção ServiceUnavailableException - Capacidade esgotada temporariamente (HTTP 503)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class ServiceUnavailableException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
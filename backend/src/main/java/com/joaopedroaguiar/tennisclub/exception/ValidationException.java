@@ -0,0 +1,14 @@
+package com.joaopedroaguiar.tennisclub.exception;
+
+/**
+ * Exceção ValidationException - Dados inválidos segundo as regras de negócio (HTTP 400)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ */
+public class ValidationException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ValidationException(String message) {
+        super(message);
+    }
+}
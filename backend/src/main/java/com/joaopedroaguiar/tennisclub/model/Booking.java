@@ -1,6 +1,7 @@
 package com.joaopedroaguiar.tennisclub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
@@ -13,11 +14,26 @@ import java.time.LocalTime;
  * Desenvolvido por: João Pedro Aguiar
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    // Verificação de conflito e ocupação da quadra: igualdade em quadra/data/status, faixa de horário
+    @Index(name = "idx_bookings_court_slot", columnList = "court_id, booking_date, status, start_time, end_time"),
+    // Paginação por cursor da quadra (status no meio do idx_bookings_court_slot impede a ordenação)
+    @Index(name = "idx_bookings_court_cursor", columnList = "court_id, booking_date, start_time, id"),
+    // Agendamentos (futuros) por usuário
+    @Index(name = "idx_bookings_user_date", columnList = "user_id, booking_date, start_time"),
+    // Agendamentos do dia, por período, exportação e paginação por cursor
+    @Index(name = "idx_bookings_date_time", columnList = "booking_date, start_time, id"),
+    // Paginação por status
+    @Index(name = "idx_bookings_status_date", columnList = "status, booking_date, start_time, id")
+})
 public class Booking {
 
+    // Sequência com alocação em blocos (pooled): ao contrário de IDENTITY, permite que o
+    // Hibernate agrupe os INSERTs em lotes JDBC. No MySQL a sequência é emulada por tabela.
+    // O SchemaUpgradeInitializer avança a sequência para além dos IDs já existentes.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Quadra é obrigatória")
@@ -59,6 +75,12 @@ public class Booking {
     @Column(length = 500)
     private String notes;
 
+    // Controle de concorrência otimista (linhas anteriores à coluna: SchemaUpgradeInitializer)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     public enum BookingStatus {
         PENDING("Pendente"),
         CONFIRMED("Confirmado"),
@@ -74,6 +96,31 @@ public class Booking {
         public String getDescription() {
             return description;
         }
+
+        /**
+         * Verifica se o status ocupa o horário da quadra
+         * @return true para PENDING e CONFIRMED
+         */
+        public boolean isActive() {
+            return this == PENDING || this == CONFIRMED;
+        }
+
+        /**
+         * Máquina de estados do agendamento: PENDING → CONFIRMED ou CANCELED,
+         * CONFIRMED → COMPLETED ou CANCELED; CANCELED e COMPLETED são estados finais
+         * @param target Status de destino
+         * @return true se a transição for permitida
+         */
+        public boolean canTransitionTo(BookingStatus target) {
+            switch (this) {
+                case PENDING:
+                    return target == CONFIRMED || target == CANCELED;
+                case CONFIRMED:
+                    return target == COMPLETED || target == CANCELED;
+                default:
+                    return false;
+            }
+        }
     }
 
     // Construtores
@@ -105,7 +152,7 @@ public class Booking {
     }
 
     public boolean isActive() {
-        return status == BookingStatus.CONFIRMED || status == BookingStatus.PENDING;
+        return status.isActive();
     }
 
     // Getters e Setters
@@ -205,6 +252,14 @@ public class Booking {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Booking{" +
@@ -1,6 +1,7 @@
 package com.joaopedroaguiar.tennisclub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -45,6 +46,12 @@ public class Court {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Controle de concorrência otimista (linhas anteriores à coluna: SchemaUpgradeInitializer)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     // Relacionamento com Booking
     @OneToMany(mappedBy = "court", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Booking> bookings;
@@ -122,6 +129,14 @@ public class Court {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<Booking> getBookings() {
         return bookings;
     }
@@ -1,6 +1,7 @@
 package com.joaopedroaguiar.tennisclub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -49,6 +50,12 @@ public class User implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Controle de concorrência otimista (linhas anteriores à coluna: SchemaUpgradeInitializer)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
@@ -166,6 +173,14 @@ public class User implements UserDetails {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
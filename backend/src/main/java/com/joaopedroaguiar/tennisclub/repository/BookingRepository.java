@@ -3,14 +3,26 @@ package com.joaopedroaguiar.tennisclub.repository;
 import com.joaopedroaguiar.tennisclub.model.Booking;
 import com.joaopedroaguiar.tennisclub.model.Court;
 import com.joaopedroaguiar.tennisclub.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório BookingRepository - Interface para operações de dados dos agendamentos
@@ -19,11 +31,38 @@ import java.util.List;
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // Predicado de paginação por cursor: agendamentos posteriores a (data, horário, ID)
+    String AFTER_CURSOR = "(b.bookingDate > :cursorDate OR (b.bookingDate = :cursorDate AND " +
+            "(b.startTime > :cursorTime OR (b.startTime = :cursorTime AND b.id > :cursorId))))";
+
+    String CURSOR_ORDER = " ORDER BY b.bookingDate, b.startTime, b.id";
+
+    // As consultas que alimentam o BookingDTO carregam quadra e usuário no mesmo SELECT
+    // (entity graph), evitando 2 consultas adicionais por agendamento
+
+    /**
+     * Busca todos os agendamentos com quadra e usuário
+     * @return Lista de todos os agendamentos
+     */
+    @Override
+    @EntityGraph(attributePaths = {"court", "user"})
+    List<Booking> findAll();
+
+    /**
+     * Busca um agendamento por ID com quadra e usuário
+     * @param id ID do agendamento
+     * @return Optional contendo o agendamento se encontrado
+     */
+    @Override
+    @EntityGraph(attributePaths = {"court", "user"})
+    Optional<Booking> findById(Long id);
+
     /**
      * Busca agendamentos por usuário
      * @param user Usuário
      * @return Lista de agendamentos do usuário
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     List<Booking> findByUser(User user);
 
     /**
@@ -31,6 +70,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param user Usuário
      * @return Lista de agendamentos do usuário ordenados
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.user = :user ORDER BY b.bookingDate DESC, b.startTime DESC")
     List<Booking> findByUserOrderByDateAndTime(@Param("user") User user);
 
@@ -39,6 +79,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param court Quadra
      * @return Lista de agendamentos da quadra
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     List<Booking> findByCourt(Court court);
 
     /**
@@ -49,11 +90,47 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      */
     List<Booking> findByCourtAndBookingDate(Court court, LocalDate bookingDate);
 
+    /**
+     * Busca agendamentos ativos (PENDING ou CONFIRMED) de uma quadra em uma data
+     * @param courtId ID da quadra
+     * @param bookingDate Data do agendamento
+     * @return Lista de agendamentos ativos da quadra na data especificada
+     */
+    @Query("SELECT b FROM Booking b WHERE b.court.id = :courtId AND b.bookingDate = :bookingDate " +
+           "AND b.status IN ('PENDING', 'CONFIRMED')")
+    List<Booking> findActiveByCourtIdAndBookingDate(@Param("courtId") Long courtId,
+                                                   @Param("bookingDate") LocalDate bookingDate);
+
+    /**
+     * Busca agendamentos ativos (PENDING ou CONFIRMED) de uma quadra em um conjunto de datas
+     * @param courtId ID da quadra
+     * @param dates Datas dos agendamentos
+     * @return Lista de agendamentos ativos da quadra nas datas especificadas
+     */
+    @Query("SELECT b FROM Booking b WHERE b.court.id = :courtId AND b.bookingDate IN :dates " +
+           "AND b.status IN ('PENDING', 'CONFIRMED')")
+    List<Booking> findActiveByCourtIdAndBookingDateIn(@Param("courtId") Long courtId,
+                                                     @Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * Busca agendamentos ativos (PENDING ou CONFIRMED) de várias quadras em um período
+     * @param courtIds IDs das quadras
+     * @param startDate Data inicial
+     * @param endDate Data final
+     * @return Lista de agendamentos ativos das quadras no período
+     */
+    @Query("SELECT b FROM Booking b WHERE b.court.id IN :courtIds AND b.bookingDate BETWEEN :startDate AND :endDate " +
+           "AND b.status IN ('PENDING', 'CONFIRMED')")
+    List<Booking> findActiveByCourtIdInAndBookingDateBetween(@Param("courtIds") Collection<Long> courtIds,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
     /**
      * Busca agendamentos por status
      * @param status Status do agendamento
      * @return Lista de agendamentos com o status especificado
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     List<Booking> findByStatus(Booking.BookingStatus status);
 
     /**
@@ -61,6 +138,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param bookingDate Data do agendamento
      * @return Lista de agendamentos na data especificada
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     List<Booking> findByBookingDate(LocalDate bookingDate);
 
     /**
@@ -69,6 +147,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param endDate Data final
      * @return Lista de agendamentos no período especificado
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.bookingDate BETWEEN :startDate AND :endDate ORDER BY b.bookingDate, b.startTime")
     List<Booking> findByBookingDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
@@ -106,11 +185,28 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                             @Param("endTime") LocalTime endTime,
                                             @Param("excludeBookingId") Long excludeBookingId);
 
+    /**
+     * Busca, em uma única consulta, as datas de um conjunto em que o horário já está ocupado
+     * @param court Quadra
+     * @param dates Datas a verificar
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @return Datas com conflito de horário
+     */
+    @Query("SELECT DISTINCT b.bookingDate FROM Booking b WHERE b.court = :court AND b.bookingDate IN :dates " +
+           "AND b.status IN ('PENDING', 'CONFIRMED') " +
+           "AND b.startTime < :endTime AND b.endTime > :startTime")
+    List<LocalDate> findConflictingDates(@Param("court") Court court,
+                                         @Param("dates") Collection<LocalDate> dates,
+                                         @Param("startTime") LocalTime startTime,
+                                         @Param("endTime") LocalTime endTime);
+
     /**
      * Busca agendamentos ativos (PENDING ou CONFIRMED) por usuário
      * @param user Usuário
      * @return Lista de agendamentos ativos do usuário
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.user = :user AND b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.bookingDate, b.startTime")
     List<Booking> findActiveBookingsByUser(@Param("user") User user);
 
@@ -120,6 +216,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param currentDate Data atual
      * @return Lista de agendamentos futuros do usuário
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.user = :user AND b.bookingDate >= :currentDate ORDER BY b.bookingDate, b.startTime")
     List<Booking> findFutureBookingsByUser(@Param("user") User user, @Param("currentDate") LocalDate currentDate);
 
@@ -135,6 +232,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param today Data de hoje
      * @return Lista de agendamentos de hoje
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.bookingDate = :today ORDER BY b.startTime")
     List<Booking> findTodayBookings(@Param("today") LocalDate today);
 
@@ -144,8 +242,185 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      * @param currentDate Data atual
      * @return Lista dos próximos agendamentos da quadra
      */
+    @EntityGraph(attributePaths = {"court", "user"})
     @Query("SELECT b FROM Booking b WHERE b.court = :court AND b.bookingDate >= :currentDate " +
            "AND b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.bookingDate, b.startTime LIMIT 10")
     List<Booking> findUpcomingBookingsByCourt(@Param("court") Court court, @Param("currentDate") LocalDate currentDate);
-}
 
+    /**
+     * Busca a página de agendamentos posterior ao cursor
+     * @param cursorDate Data do último agendamento entregue
+     * @param cursorTime Horário de início do último agendamento entregue
+     * @param cursorId ID do último agendamento entregue
+     * @param pageable Tamanho da página (sempre a partir da primeira posição)
+     * @return Agendamentos ordenados por data, horário e ID
+     */
+    @EntityGraph(attributePaths = {"court", "user"})
+    @Query("SELECT b FROM Booking b WHERE " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findPageAfter(@Param("cursorDate") LocalDate cursorDate,
+                                @Param("cursorTime") LocalTime cursorTime,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
+
+    /**
+     * Busca a página de agendamentos com o status informado posterior ao cursor
+     * @param status Status do agendamento
+     * @param cursorDate Data do último agendamento entregue
+     * @param cursorTime Horário de início do último agendamento entregue
+     * @param cursorId ID do último agendamento entregue
+     * @param pageable Tamanho da página (sempre a partir da primeira posição)
+     * @return Agendamentos ordenados por data, horário e ID
+     */
+    @EntityGraph(attributePaths = {"court", "user"})
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findPageByStatusAfter(@Param("status") Booking.BookingStatus status,
+                                        @Param("cursorDate") LocalDate cursorDate,
+                                        @Param("cursorTime") LocalTime cursorTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    /**
+     * Busca a página de agendamentos de uma quadra posterior ao cursor
+     * @param courtId ID da quadra
+     * @param cursorDate Data do último agendamento entregue
+     * @param cursorTime Horário de início do último agendamento entregue
+     * @param cursorId ID do último agendamento entregue
+     * @param pageable Tamanho da página (sempre a partir da primeira posição)
+     * @return Agendamentos ordenados por data, horário e ID
+     */
+    // Limite inferior redundante em booking_date e quadra à frente da ordenação (constante pela
+    // igualdade): o otimizador percorre o idx_bookings_court_cursor em ordem, sem filesort
+    @EntityGraph(attributePaths = {"court", "user"})
+    @Query("SELECT b FROM Booking b WHERE b.court.id = :courtId AND b.bookingDate >= :cursorDate AND " + AFTER_CURSOR +
+            " ORDER BY b.court.id, b.bookingDate, b.startTime, b.id")
+    List<Booking> findPageByCourtAfter(@Param("courtId") Long courtId,
+                                       @Param("cursorDate") LocalDate cursorDate,
+                                       @Param("cursorTime") LocalTime cursorTime,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    /**
+     * Percorre os agendamentos de um período para exportação, sem materializar a lista.
+     * Usa fetch size do JDBC e entidades somente leitura; deve ser consumido dentro de uma transação.
+     * @param startDate Data inicial (inclusiva)
+     * @param endDate Data final (inclusiva)
+     * @param courtId ID da quadra (null para todas)
+     * @param status Status do agendamento (null para todos)
+     * @return Stream de agendamentos ordenados por data e horário
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.court JOIN FETCH b.user " +
+           "WHERE b.bookingDate BETWEEN :startDate AND :endDate " +
+           "AND (:courtId IS NULL OR b.court.id = :courtId) " +
+           "AND (:status IS NULL OR b.status = :status) " +
+           "ORDER BY b.bookingDate, b.startTime")
+    Stream<Booking> streamForExport(@Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate,
+                                    @Param("courtId") Long courtId,
+                                    @Param("status") Booking.BookingStatus status);
+
+    /**
+     * Aplica uma transição de status em um único UPDATE condicional: o agendamento só é
+     * alterado se ainda estiver no status de origem (a versão é incrementada junto)
+     * @param id ID do agendamento
+     * @param from Status de origem esperado
+     * @param to Novo status
+     * @param now Data/hora da alteração
+     * @return 1 se a transição foi aplicada, 0 se o status foi alterado concorrentemente
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to, b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id = :id AND b.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") Booking.BookingStatus from,
+                         @Param("to") Booking.BookingStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Carrega e bloqueia (SELECT ... FOR UPDATE) os agendamentos de um lote de transição de
+     * status, em ordem de ID para que lotes concorrentes bloqueiem as linhas na mesma ordem
+     * @param ids IDs dos agendamentos
+     * @return Agendamentos encontrados
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT b FROM Booking b WHERE b.id IN :ids ORDER BY b.id")
+    List<Booking> findAllForStatusUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca os IDs dos agendamentos de uma data com um status (usa idx_bookings_status_date)
+     * @param status Status atual
+     * @param bookingDate Data
+     * @return IDs em ordem crescente
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.bookingDate = :bookingDate ORDER BY b.id")
+    List<Long> findIdsByStatusAndBookingDate(@Param("status") Booking.BookingStatus status,
+                                             @Param("bookingDate") LocalDate bookingDate);
+
+    /**
+     * Aplica a mesma transição de status a um conjunto de agendamentos em um único UPDATE
+     * condicional (a versão de cada linha é incrementada junto)
+     * @param ids IDs dos agendamentos
+     * @param sources Status de origem aceitos (linhas em outro status não são alteradas)
+     * @param to Novo status
+     * @param now Data/hora da alteração
+     * @return Número de linhas alteradas
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to, b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :ids AND b.status IN :sources")
+    int transitionStatusIn(@Param("ids") Collection<Long> ids, @Param("sources") Collection<Booking.BookingStatus> sources,
+                           @Param("to") Booking.BookingStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Busca agendamentos de um status criados antes de um instante ou de datas já passadas
+     * (expiração de PENDING)
+     * @param status Status atual
+     * @param createdBefore Limite de criação
+     * @param today Data atual
+     * @param pageable Tamanho do lote
+     * @return IDs em ordem crescente
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status " +
+           "AND (b.createdAt < :createdBefore OR b.bookingDate < :today) ORDER BY b.id")
+    List<Long> findIdsToExpire(@Param("status") Booking.BookingStatus status,
+                               @Param("createdBefore") LocalDateTime createdBefore,
+                               @Param("today") LocalDate today,
+                               Pageable pageable);
+
+    /**
+     * Busca agendamentos de um status já encerrados (usa idx_bookings_status_date)
+     * @param status Status atual
+     * @param today Data atual
+     * @param now Horário atual
+     * @param pageable Tamanho do lote
+     * @return IDs em ordem de data
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status " +
+           "AND (b.bookingDate < :today OR (b.bookingDate = :today AND b.endTime <= :now)) " +
+           "ORDER BY b.bookingDate, b.startTime, b.id")
+    List<Long> findIdsEndedBefore(@Param("status") Booking.BookingStatus status,
+                                  @Param("today") LocalDate today,
+                                  @Param("now") LocalTime now,
+                                  Pageable pageable);
+
+    /**
+     * Totais de agendamentos por (quadra, data, status) em um período: quantidade, minutos
+     * reservados e receita (usa idx_bookings_court_slot)
+     * @param courtIds IDs das quadras
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     * @return Linhas [courtId, bookingDate, status, quantidade, minutos, receita]
+     */
+    @Query("SELECT b.court.id, b.bookingDate, b.status, COUNT(b), " +
+           "SUM((EXTRACT(HOUR FROM b.endTime) - EXTRACT(HOUR FROM b.startTime)) * 60 " +
+           "+ EXTRACT(MINUTE FROM b.endTime) - EXTRACT(MINUTE FROM b.startTime)), " +
+           "SUM(b.totalPrice) " +
+           "FROM Booking b WHERE b.court.id IN :courtIds AND b.bookingDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY b.court.id, b.bookingDate, b.status")
+    List<Object[]> sumByCourtAndDateAndStatus(@Param("courtIds") Collection<Long> courtIds,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+}
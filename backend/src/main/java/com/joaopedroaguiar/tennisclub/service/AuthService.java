@@ -0,0 +1,54 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.config.JwtTokenProvider;
+import com.joaopedroaguiar.tennisclub.dto.AuthTokenDTO;
+import com.joaopedroaguiar.tennisclub.dto.LoginDTO;
+import com.joaopedroaguiar.tennisclub.model.User;
+import com.joaopedroaguiar.tennisclub.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço AuthService - Emissão de tokens de acesso
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * As credenciais são verificadas pelo AuthenticationManager (com os caches de usuários e de
+ * credenciais); o banco só é consultado para obter o ID que vai no token. Não é
+ * transacional: a regravação de hash feita na autenticação usa a sua própria transação.
+ */
+@Service
+public class AuthService {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * Autentica o usuário e emite um token de acesso
+     * @param loginDTO Email e senha
+     * @return Token de acesso
+     * @throws org.springframework.security.core.AuthenticationException se as credenciais
+     *         forem inválidas ou o usuário estiver desativado
+     */
+    public AuthTokenDTO login(LoginDTO loginDTO) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(loginDTO.getEmail(), loginDTO.getPassword()));
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new BadCredentialsException("Usuário não encontrado"));
+
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail(), user.getRole());
+        return new AuthTokenDTO(token, TimeUnit.MILLISECONDS.toSeconds(jwtTokenProvider.getExpirationMs()),
+                user.getId(), user.getRole());
+    }
+}
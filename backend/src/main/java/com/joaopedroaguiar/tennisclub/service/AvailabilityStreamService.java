@@ -0,0 +1,353 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.AvailabilityChangeDTO;
+import com.joaopedroaguiar.tennisclub.dto.AvailableTimeSlotDTO;
+import com.joaopedroaguiar.tennisclub.event.BookingChangedEvent;
+import com.joaopedroaguiar.tennisclub.event.BookingDaysChangedEvent;
+import com.joaopedroaguiar.tennisclub.event.SlotHoldEvent;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Serviço AvailabilityStreamService - Envio da disponibilidade das quadras via Server-Sent Events
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada assinante acompanha um tópico (quadra, data). A cada BookingChangedEvent ou
+ * SlotHoldEvent o serviço calcula uma única vez, a partir do CourtOccupancyIndex, os slots
+ * afetados e enfileira a mensagem para os assinantes do tópico. A fila de cada assinante é limitada e esvaziada
+ * em um pool próprio e limitado de threads de envio; assinantes que não acompanham o ritmo são desconectados
+ * (o EventSource do navegador reconecta e recebe um novo snapshot).
+ *
+ * O envio do SseEmitter é uma escrita bloqueante: um cliente parado prende a thread até o timeout de
+ * escrita do Tomcat (server.tomcat.connection-timeout), que ignora interrupções. Por isso o envio não
+ * usa o applicationTaskExecutor (compartilhado com a lista de espera), e um watchdog desconecta os
+ * assinantes com envio em andamento há mais de {@value #SEND_TIMEOUT_MS} ms: o tópico deixa de
+ * alimentá-los e a thread, ao ser liberada, fecha o stream e volta ao pool.
+ */
+@Service
+public class AvailabilityStreamService {
+
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final int QUEUE_CAPACITY = 32;
+    private static final int MAX_SUBSCRIBERS = 10_000;
+    private static final int SENDER_THREADS = 8;
+    private static final long SEND_TIMEOUT_MS = 5_000;
+    private static final long WATCHDOG_INTERVAL_MS = 1_000;
+
+    private final CourtOccupancyIndex occupancyIndex;
+    private final CourtCatalogCache courtCatalog;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor senderExecutor = new ThreadPoolTaskExecutor();
+    private final ConcurrentHashMap<Topic, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public AvailabilityStreamService(CourtOccupancyIndex occupancyIndex, CourtCatalogCache courtCatalog, ObjectMapper objectMapper) {
+        this.occupancyIndex = occupancyIndex;
+        this.courtCatalog = courtCatalog;
+        this.objectMapper = objectMapper;
+        // Pool interno (não é um bean: um Executor no contexto desativaria o applicationTaskExecutor).
+        // Há no máximo uma tarefa de envio por assinante, então a fila nunca passa de MAX_SUBSCRIBERS.
+        senderExecutor.setCorePoolSize(SENDER_THREADS);
+        senderExecutor.setMaxPoolSize(SENDER_THREADS);
+        senderExecutor.setQueueCapacity(MAX_SUBSCRIBERS);
+        senderExecutor.setThreadNamePrefix("availability-sse-");
+        senderExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdown();
+    }
+
+    /**
+     * Registra um assinante do tópico (quadra, data) e enfileira o snapshot inicial
+     * @param courtId ID da quadra
+     * @param date Data
+     * @return Emitter SSE do assinante
+     * @throws ResourceNotFoundException se a quadra não for encontrada
+     * @throws ServiceUnavailableException se o limite de assinantes for atingido
+     */
+    public SseEmitter subscribe(Long courtId, LocalDate date) {
+        if (courtCatalog.findById(courtId).isEmpty()) {
+            throw new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId);
+        }
+        if (subscriberCount.incrementAndGet() > MAX_SUBSCRIBERS) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Limite de assinantes do stream de disponibilidade atingido");
+        }
+        Topic topic = new Topic(courtId, date);
+        Subscriber subscriber = new Subscriber(topic, new SseEmitter(EMITTER_TIMEOUT_MS));
+        topics.compute(topic, (key, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        List<AvailableTimeSlotDTO> slots = BookingRules.timeSlots(occupancyIndex.occupancy(courtId, date));
+        deliver(subscriber, new Message("snapshot", toJson(new AvailabilityChangeDTO(courtId, date, slots))));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Calcula os slots afetados por uma alteração confirmada e os envia aos assinantes
+     * @param event Alteração de agendamento (já refletida no índice de ocupação)
+     */
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        BookingChangedEvent.Snapshot before = event.getBefore();
+        BookingChangedEvent.Snapshot after = event.getAfter();
+        Map<Topic, List<BookingChangedEvent.Snapshot>> touched = new HashMap<>();
+        if (before != null && before.isActive()) {
+            touched.computeIfAbsent(new Topic(event.getCourtId(), before.getBookingDate()), key -> new ArrayList<>()).add(before);
+        }
+        if (after != null && after.isActive()) {
+            touched.computeIfAbsent(new Topic(event.getCourtId(), after.getBookingDate()), key -> new ArrayList<>()).add(after);
+        }
+
+        touched.forEach((topic, intervals) -> broadcast(topic, slot -> intervals.stream().anyMatch(interval ->
+                BookingRules.overlaps(slot.getStartTime(), slot.getEndTime(), interval.getStartTime(), interval.getEndTime()))));
+    }
+
+    /**
+     * Envia aos assinantes de cada dia afetado por uma alteração em massa todos os slots do dia
+     * @param event Dias alterados (já refletidos no índice de ocupação)
+     */
+    @EventListener
+    public void onBookingDaysChanged(BookingDaysChangedEvent event) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        event.getDaysByCourt().forEach((courtId, dates) -> {
+            for (LocalDate date : dates) {
+                broadcast(new Topic(courtId, date), slot -> true);
+            }
+        });
+    }
+
+    /**
+     * Envia aos assinantes os slots afetados pela criação ou liberação de uma reserva temporária
+     * @param event Reserva temporária (já refletida no índice de ocupação)
+     */
+    @EventListener
+    public void onSlotHoldChanged(SlotHoldEvent event) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        broadcast(new Topic(event.getCourtId(), event.getBookingDate()), slot ->
+                BookingRules.overlaps(slot.getStartTime(), slot.getEndTime(), event.getStartTime(), event.getEndTime()));
+    }
+
+    /**
+     * Desconecta os assinantes cujo envio em andamento excedeu o timeout (cliente parado)
+     */
+    @Scheduled(fixedDelay = WATCHDOG_INTERVAL_MS)
+    public void evictStalledSubscribers() {
+        if (topics.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : topics.values()) {
+            for (Subscriber subscriber : subscribers) {
+                long sendStartedAt = subscriber.sendStartedAt;
+                if (sendStartedAt != 0 && now - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT_MS)) {
+                    disconnect(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Número de assinantes conectados
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // Métodos privados de entrega
+
+    private void broadcast(Topic topic, Predicate<AvailableTimeSlotDTO> affected) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        List<AvailableTimeSlotDTO> changed = new ArrayList<>();
+        for (AvailableTimeSlotDTO slot : BookingRules.timeSlots(occupancyIndex.occupancy(topic.courtId, topic.date))) {
+            if (affected.test(slot)) {
+                changed.add(slot);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        Message message = new Message("change", toJson(new AvailabilityChangeDTO(topic.courtId, topic.date, changed)));
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, message);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            // Consumidor lento: a fila está cheia, desconecta em vez de bloquear a publicação
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senderExecutor.execute(() -> drain(subscriber));
+            } catch (TaskRejectedException e) {
+                // Pool encerrado: a flag continua com este assinante, que é fechado aqui
+                remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Message message;
+            while (!subscriber.removed.get() && (message = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(message.name).data(message.json, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscriber);
+                    subscriber.queue.clear();
+                    return;
+                } finally {
+                    subscriber.sendStartedAt = 0;
+                }
+            }
+            if (subscriber.removed.get()) {
+                // Desconectado durante o envio: o stream é fechado pela thread que detém a flag
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // Uma mensagem (ou a desconexão) pode ter ocorrido entre a última verificação e a liberação da flag
+        } while ((subscriber.removed.get() || !subscriber.queue.isEmpty()) && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Remove o assinante dos tópicos e fecha o stream sem esperar um envio em andamento: send e
+     * complete do SseEmitter são sincronizados, então quem fecha é a thread que detém a flag draining
+     */
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.queue.clear();
+        if (subscriber.draining.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscriberCount.decrementAndGet();
+            topics.computeIfPresent(subscriber.topic, (key, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    private String toJson(AvailabilityChangeDTO change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a disponibilidade", e);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final Queue<Message> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // Início (System.nanoTime) do envio em andamento; 0 quando ocioso
+        private volatile long sendStartedAt;
+
+        Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class Message {
+
+        private final String name;
+        private final String json;
+
+        Message(String name, String json) {
+            this.name = name;
+            this.json = json;
+        }
+    }
+
+    private static final class Topic {
+
+        private final Long courtId;
+        private final LocalDate date;
+
+        Topic(Long courtId, LocalDate date) {
+            this.courtId = courtId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Topic)) {
+                return false;
+            }
+            Topic other = (Topic) o;
+            return courtId.equals(other.courtId) && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courtId, date);
+        }
+
+        @Override
+        public String toString() {
+            return courtId + "/" + date;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.event.BookingChangedEvent;
+import com.joaopedroaguiar.tennisclub.event.BookingDaysChangedEvent;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.repository.BookingRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Componente BookingAggregateStore - Totais diários pré-calculados dos agendamentos
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Mantém em memória, para cada par (quadra, data), a quantidade, os minutos reservados e a
+ * receita por status. Cada dia é carregado do banco com uma consulta agregada (GROUP BY) na
+ * primeira leitura e depois atualizado incrementalmente pelos BookingChangedEvent, de modo
+ * que os relatórios custam O(dias × quadras) sem percorrer a tabela de agendamentos.
+ * Alterações em massa (BookingDaysChangedEvent) apenas descartam os dias afetados.
+ * Divergências de corrida entre uma carga e um evento são corrigidas pela reconciliação.
+ */
+@Component
+public class BookingAggregateStore {
+
+    // Limite de dias mantidos em memória; ao ser atingido, os dias são recarregados sob demanda
+    private static final int MAX_CACHED_DAYS = 100_000;
+
+    // Janela de cada consulta de reconciliação
+    private static final int RECONCILE_WINDOW_DAYS = 31;
+
+    private final ConcurrentHashMap<DayKey, DayTotals> days = new ConcurrentHashMap<>();
+
+    // Incrementada a cada alteração em um dia não carregado: cargas concorrentes não são mantidas
+    private final AtomicLong generation = new AtomicLong();
+
+    private final BookingRepository bookingRepository;
+
+    public BookingAggregateStore(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Retorna os totais diários de várias quadras em um período, carregando com uma única
+     * consulta os dias que ainda não estão em memória
+     * @param courtIds IDs das quadras
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     * @return Totais por quadra, um por dia do período (na ordem das datas)
+     */
+    public Map<Long, DayTotals[]> totals(Collection<Long> courtIds, LocalDate startDate, LocalDate endDate) {
+        int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        Map<Long, DayTotals[]> result = new LinkedHashMap<>();
+        List<DayKey> missing = new ArrayList<>();
+        for (Long courtId : courtIds) {
+            DayTotals[] row = new DayTotals[dayCount];
+            for (int i = 0; i < dayCount; i++) {
+                DayKey key = new DayKey(courtId, startDate.plusDays(i));
+                row[i] = days.get(key);
+                if (row[i] == null) {
+                    missing.add(key);
+                }
+            }
+            result.put(courtId, row);
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        if (days.size() + missing.size() > MAX_CACHED_DAYS) {
+            days.clear();
+        }
+        long loadedGeneration = generation.get();
+        Set<Long> missingCourts = new HashSet<>();
+        LocalDate from = endDate;
+        LocalDate to = startDate;
+        for (DayKey key : missing) {
+            missingCourts.add(key.courtId);
+            from = key.date.isBefore(from) ? key.date : from;
+            to = key.date.isAfter(to) ? key.date : to;
+        }
+        Map<DayKey, DayTotals> loaded = load(missingCourts, from, to);
+        // A carga só é mantida se nenhum dia não carregado foi alterado durante a consulta
+        boolean cacheable = generation.get() == loadedGeneration;
+        for (DayKey key : missing) {
+            DayTotals totals = loaded.getOrDefault(key, DayTotals.EMPTY);
+            if (cacheable) {
+                DayTotals current = days.putIfAbsent(key, totals);
+                totals = current != null ? current : totals;
+            }
+            result.get(key.courtId)[(int) ChronoUnit.DAYS.between(startDate, key.date)] = totals;
+        }
+        return result;
+    }
+
+    /**
+     * Aplica aos dias carregados a variação de uma alteração confirmada
+     * @param event Alteração de agendamento
+     */
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.getBefore() != null) {
+            apply(event.getCourtId(), event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            apply(event.getCourtId(), event.getAfter(), 1);
+        }
+    }
+
+    /**
+     * Descarta os dias afetados por uma alteração em massa; são recarregados na próxima leitura
+     * @param event Dias alterados (ex.: importação)
+     */
+    @EventListener
+    public void onBookingDaysChanged(BookingDaysChangedEvent event) {
+        // Invalida também as cargas em andamento, que podem ter lido os dias antes do commit
+        generation.incrementAndGet();
+        event.getDaysByCourt().forEach((courtId, dates) -> {
+            for (LocalDate date : dates) {
+                days.remove(new DayKey(courtId, date));
+            }
+        });
+    }
+
+    /**
+     * Recalcula no banco todos os dias em memória e substitui os que divergirem
+     * @return Número de dias corrigidos
+     */
+    public int reconcile() {
+        Map<DayKey, DayTotals> expected = new HashMap<>(days);
+        if (expected.isEmpty()) {
+            return 0;
+        }
+        Set<Long> courtIds = new HashSet<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (DayKey key : expected.keySet()) {
+            courtIds.add(key.courtId);
+            from = key.date.isBefore(from) ? key.date : from;
+            to = key.date.isAfter(to) ? key.date : to;
+        }
+
+        int corrected = 0;
+        for (LocalDate windowStart = from; !windowStart.isAfter(to); windowStart = windowStart.plusDays(RECONCILE_WINDOW_DAYS)) {
+            LocalDate windowEnd = windowStart.plusDays(RECONCILE_WINDOW_DAYS - 1);
+            windowEnd = windowEnd.isAfter(to) ? to : windowEnd;
+            Map<DayKey, DayTotals> actual = load(courtIds, windowStart, windowEnd);
+            for (LocalDate date = windowStart; !date.isAfter(windowEnd); date = date.plusDays(1)) {
+                for (Long courtId : courtIds) {
+                    DayKey key = new DayKey(courtId, date);
+                    DayTotals cached = expected.get(key);
+                    if (cached == null) {
+                        continue;
+                    }
+                    DayTotals fresh = actual.getOrDefault(key, DayTotals.EMPTY);
+                    // Só substitui se o dia não recebeu eventos durante a consulta
+                    if (!cached.sameTotals(fresh) && days.replace(key, cached, fresh)) {
+                        corrected++;
+                    }
+                }
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * @return Número de dias em memória
+     */
+    public int cachedDays() {
+        return days.size();
+    }
+
+    // Métodos privados de carga
+
+    private void apply(Long courtId, BookingChangedEvent.Snapshot snapshot, int sign) {
+        DayKey key = new DayKey(courtId, snapshot.getBookingDate());
+        long minutes = minutes(snapshot.getStartTime(), snapshot.getEndTime());
+        BigDecimal revenue = snapshot.getTotalPrice() != null ? snapshot.getTotalPrice() : BigDecimal.ZERO;
+        DayTotals updated = days.computeIfPresent(key, (k, totals) ->
+                totals.plus(snapshot.getStatus(), sign, sign * minutes, sign < 0 ? revenue.negate() : revenue));
+        if (updated == null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private Map<DayKey, DayTotals> load(Collection<Long> courtIds, LocalDate from, LocalDate to) {
+        Map<DayKey, DayTotals> loaded = new HashMap<>();
+        for (Object[] row : bookingRepository.sumByCourtAndDateAndStatus(courtIds, from, to)) {
+            DayKey key = new DayKey((Long) row[0], (LocalDate) row[1]);
+            Booking.BookingStatus status = (Booking.BookingStatus) row[2];
+            long count = ((Number) row[3]).longValue();
+            long minutes = row[4] != null ? ((Number) row[4]).longValue() : 0;
+            BigDecimal revenue = row[5] != null ? (BigDecimal) row[5] : BigDecimal.ZERO;
+            loaded.merge(key, DayTotals.EMPTY.plus(status, count, minutes, revenue),
+                    (current, added) -> current.plus(status, count, minutes, revenue));
+        }
+        return loaded;
+    }
+
+    static long minutes(LocalTime startTime, LocalTime endTime) {
+        // Mesma fórmula da consulta agregada (horas e minutos, sem segundos)
+        return (endTime.getHour() - startTime.getHour()) * 60L + endTime.getMinute() - startTime.getMinute();
+    }
+
+    /**
+     * Totais imutáveis de uma quadra em um dia, por status
+     */
+    public static final class DayTotals {
+
+        static final DayTotals EMPTY = new DayTotals(new long[Booking.BookingStatus.values().length],
+                new long[Booking.BookingStatus.values().length], zeros(Booking.BookingStatus.values().length));
+
+        private final long[] bookings;
+        private final long[] minutes;
+        private final BigDecimal[] revenue;
+
+        private DayTotals(long[] bookings, long[] minutes, BigDecimal[] revenue) {
+            this.bookings = bookings;
+            this.minutes = minutes;
+            this.revenue = revenue;
+        }
+
+        public long bookings(Booking.BookingStatus status) {
+            return bookings[status.ordinal()];
+        }
+
+        public long minutes(Booking.BookingStatus status) {
+            return minutes[status.ordinal()];
+        }
+
+        public BigDecimal revenue(Booking.BookingStatus status) {
+            return revenue[status.ordinal()];
+        }
+
+        DayTotals plus(Booking.BookingStatus status, long bookingsDelta, long minutesDelta, BigDecimal revenueDelta) {
+            int i = status.ordinal();
+            long[] nextBookings = bookings.clone();
+            long[] nextMinutes = minutes.clone();
+            BigDecimal[] nextRevenue = revenue.clone();
+            nextBookings[i] += bookingsDelta;
+            nextMinutes[i] += minutesDelta;
+            nextRevenue[i] = nextRevenue[i].add(revenueDelta);
+            return new DayTotals(nextBookings, nextMinutes, nextRevenue);
+        }
+
+        boolean sameTotals(DayTotals other) {
+            for (int i = 0; i < bookings.length; i++) {
+                if (bookings[i] != other.bookings[i] || minutes[i] != other.minutes[i]
+                        || revenue[i].compareTo(other.revenue[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static BigDecimal[] zeros(int length) {
+            BigDecimal[] zeros = new BigDecimal[length];
+            Arrays.fill(zeros, BigDecimal.ZERO);
+            return zeros;
+        }
+    }
+
+    private static final class DayKey {
+
+        private final Long courtId;
+        private final LocalDate date;
+
+        DayKey(Long courtId, LocalDate date) {
+            this.courtId = courtId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DayKey)) return false;
+            DayKey other = (DayKey) o;
+            return courtId.equals(other.courtId) && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courtId, date);
+        }
+    }
+}
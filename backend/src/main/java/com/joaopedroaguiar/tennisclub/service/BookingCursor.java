@@ -0,0 +1,71 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação dos agendamentos - posição (data, horário de início, ID)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * O cursor é serializado como um token opaco (Base64 URL-safe) e identifica o último
+ * agendamento entregue, permitindo buscar a próxima página sem OFFSET.
+ */
+final class BookingCursor {
+
+    // Posição anterior a qualquer agendamento, usada na primeira página
+    static final BookingCursor START = new BookingCursor(LocalDate.of(1, 1, 1), LocalTime.MIDNIGHT, 0L);
+
+    private final LocalDate bookingDate;
+    private final LocalTime startTime;
+    private final Long id;
+
+    private BookingCursor(LocalDate bookingDate, LocalTime startTime, Long id) {
+        this.bookingDate = bookingDate;
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    static BookingCursor after(Booking booking) {
+        return new BookingCursor(booking.getBookingDate(), booking.getStartTime(), booking.getId());
+    }
+
+    /**
+     * Decodifica um token recebido do cliente
+     * @param token Token opaco (null ou vazio para a primeira página)
+     * @return Cursor decodificado
+     * @throws ValidationException se o token for inválido
+     */
+    static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            return new BookingCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Cursor de paginação inválido");
+        }
+    }
+
+    String encode() {
+        String raw = bookingDate + "|" + startTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    LocalTime getStartTime() {
+        return startTime;
+    }
+
+    Long getId() {
+        return id;
+    }
+}
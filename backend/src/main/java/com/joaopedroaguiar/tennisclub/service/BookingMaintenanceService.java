@@ -0,0 +1,94 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço BookingMaintenanceService - Manutenção periódica do status dos agendamentos
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Expira (CANCELED) agendamentos PENDING não confirmados dentro do prazo e conclui
+ * (COMPLETED) agendamentos CONFIRMED já encerrados, mantendo pequeno o conjunto de
+ * agendamentos ativos percorrido nas verificações de conflito. Cada lote é uma transação
+ * curta do BookingService; por isso este serviço não é transacional.
+ *
+ * Métricas: tennisclub.bookings.maintenance.rows (tag action), .duration e .lag (segundos
+ * desde o início da última execução concluída).
+ */
+@Service
+@ConditionalOnProperty(prefix = "tennisclub.bookings.maintenance", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookingMaintenanceService {
+
+    // Limite de lotes por execução, para que uma execução atrasada não monopolize o banco
+    private static final int MAX_CHUNKS_PER_RUN = 200;
+
+    private final BookingService bookingService;
+    private final Duration pendingTtl;
+    private final int chunkSize;
+    private final Counter expiredRows;
+    private final Counter completedRows;
+    private final Timer runTimer;
+    private final AtomicLong lastRunStartedAt = new AtomicLong(System.currentTimeMillis());
+
+    public BookingMaintenanceService(BookingService bookingService, MeterRegistry meterRegistry,
+                                     @Value("${tennisclub.bookings.maintenance.pending-ttl:24h}") Duration pendingTtl,
+                                     @Value("${tennisclub.bookings.maintenance.chunk-size:500}") int chunkSize) {
+        this.bookingService = bookingService;
+        this.pendingTtl = pendingTtl;
+        this.chunkSize = chunkSize;
+        this.expiredRows = Counter.builder("tennisclub.bookings.maintenance.rows")
+                .description("Agendamentos alterados pela manutenção periódica")
+                .tag("action", "expired")
+                .register(meterRegistry);
+        this.completedRows = Counter.builder("tennisclub.bookings.maintenance.rows")
+                .description("Agendamentos alterados pela manutenção periódica")
+                .tag("action", "completed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("tennisclub.bookings.maintenance.duration")
+                .description("Duração de cada execução da manutenção")
+                .register(meterRegistry);
+        Gauge.builder("tennisclub.bookings.maintenance.lag", lastRunStartedAt,
+                        startedAt -> (System.currentTimeMillis() - startedAt.get()) / 1000.0)
+                .description("Segundos desde o início da última execução concluída")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa a manutenção: expiração de PENDING e conclusão de agendamentos encerrados
+     */
+    @Scheduled(fixedDelayString = "${tennisclub.bookings.maintenance.interval:PT5M}",
+               initialDelayString = "${tennisclub.bookings.maintenance.initial-delay:PT1M}")
+    public void run() {
+        long startedAt = System.currentTimeMillis();
+        runTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime createdBefore = now.minus(pendingTtl);
+            for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+                int processed = bookingService.expirePendingBookings(createdBefore, now.toLocalDate(), chunkSize);
+                expiredRows.increment(processed);
+                if (processed < chunkSize) {
+                    break;
+                }
+            }
+            for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+                int processed = bookingService.completePastBookings(now, chunkSize);
+                completedRows.increment(processed);
+                if (processed < chunkSize) {
+                    break;
+                }
+            }
+        });
+        lastRunStartedAt.set(startedAt);
+    }
+}
@@ -0,0 +1,115 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.AvailableTimeSlotDTO;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regras de agendamento - validação de horário, preço, sobreposição e grade de horários
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Funções puras, sem acesso a banco, usadas pelo BookingService e pelos benchmarks JMH.
+ */
+public final class BookingRules {
+
+    // Horário de funcionamento do clube
+    public static final LocalTime OPENING_TIME = LocalTime.of(6, 0);  // 06:00
+    public static final LocalTime CLOSING_TIME = LocalTime.of(22, 0); // 22:00
+
+    // Slots de 1 hora das 6h às 22h
+    public static final int SLOT_COUNT = CLOSING_TIME.getHour() - OPENING_TIME.getHour();
+
+    private BookingRules() {}
+
+    /**
+     * Valida data e horário de um agendamento
+     * @param date Data do agendamento
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @param today Data corrente
+     * @throws ValidationException se a data for passada ou o horário for inválido
+     */
+    public static void validateBookingTime(LocalDate date, LocalTime startTime, LocalTime endTime, LocalDate today) {
+        // Verifica se a data não é no passado
+        if (date.isBefore(today)) {
+            throw new ValidationException("Não é possível agendar para datas passadas");
+        }
+
+        // Verifica se o horário de início é antes do fim
+        if (startTime.isAfter(endTime) || startTime.equals(endTime)) {
+            throw new ValidationException("Horário de início deve ser anterior ao horário de fim");
+        }
+
+        // Verifica se está dentro do horário de funcionamento
+        if (startTime.isBefore(OPENING_TIME) || endTime.isAfter(CLOSING_TIME)) {
+            throw new ValidationException("Agendamento deve estar entre " + OPENING_TIME + " e " + CLOSING_TIME);
+        }
+
+        // Verifica duração mínima (1 hora)
+        if (Duration.between(startTime, endTime).toHours() < 1) {
+            throw new ValidationException("Duração mínima do agendamento é de 1 hora");
+        }
+    }
+
+    /**
+     * Calcula o preço total (horas cheias × preço por hora)
+     * @param pricePerHour Preço por hora da quadra
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @return Preço total
+     */
+    public static BigDecimal calculateTotalPrice(BigDecimal pricePerHour, LocalTime startTime, LocalTime endTime) {
+        long hours = Duration.between(startTime, endTime).toHours();
+        return pricePerHour.multiply(BigDecimal.valueOf(hours));
+    }
+
+    /**
+     * Predicado de conflito entre dois intervalos (o mesmo das consultas do BookingRepository)
+     * @return true se os intervalos [startA, endA) e [startB, endB) se sobrepõem
+     */
+    public static boolean overlaps(LocalTime startA, LocalTime endA, LocalTime startB, LocalTime endB) {
+        return startA.isBefore(endB) && endA.isAfter(startB);
+    }
+
+    /**
+     * Gera a grade de slots de 1 hora a partir do bitmap de ocupação do dia
+     * @param occupancy Bitmap de ocupação (um bit por minuto, ver CourtOccupancyIndex)
+     * @return Slots das 6h às 22h com a disponibilidade de cada um
+     */
+    public static List<AvailableTimeSlotDTO> timeSlots(long[] occupancy) {
+        List<AvailableTimeSlotDTO> availableSlots = new ArrayList<>(SLOT_COUNT);
+        LocalTime currentTime = OPENING_TIME;
+        while (currentTime.isBefore(CLOSING_TIME)) {
+            LocalTime endTime = currentTime.plusHours(1);
+            boolean isAvailable = CourtOccupancyIndex.isRangeFree(occupancy, currentTime, endTime);
+
+            availableSlots.add(new AvailableTimeSlotDTO(currentTime, endTime, isAvailable));
+            currentTime = endTime;
+        }
+        return availableSlots;
+    }
+
+    /**
+     * Codifica a disponibilidade dos slots do dia em uma máscara de bits
+     * @param occupancy Bitmap de ocupação (um bit por minuto, ver CourtOccupancyIndex)
+     * @return Máscara em que o bit i indica que o slot iniciado em OPENING_TIME + i horas está livre
+     */
+    public static long availabilityMask(long[] occupancy) {
+        long mask = 0L;
+        LocalTime currentTime = OPENING_TIME;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            LocalTime endTime = currentTime.plusHours(1);
+            if (CourtOccupancyIndex.isRangeFree(occupancy, currentTime, endTime)) {
+                mask |= 1L << slot;
+            }
+            currentTime = endTime;
+        }
+        return mask;
+    }
+}
@@ -1,24 +1,61 @@
 package com.joaopedroaguiar.tennisclub.service;
 
+import com.joaopedroaguiar.tennisclub.dto.AvailabilityMatrixDTO;
 import com.joaopedroaguiar.tennisclub.dto.AvailableTimeSlotDTO;
 import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.dto.BookingPageDTO;
+import com.joaopedroaguiar.tennisclub.dto.BulkStatusResultDTO;
+import com.joaopedroaguiar.tennisclub.dto.BulkStatusUpdateDTO;
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.dto.RecurringBookingDTO;
+import com.joaopedroaguiar.tennisclub.event.BookingChangedEvent;
+import com.joaopedroaguiar.tennisclub.event.BookingDaysChangedEvent;
+import com.joaopedroaguiar.tennisclub.exception.BusinessException;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
 import com.joaopedroaguiar.tennisclub.model.Booking;
 import com.joaopedroaguiar.tennisclub.model.Court;
 import com.joaopedroaguiar.tennisclub.model.User;
 import com.joaopedroaguiar.tennisclub.repository.BookingRepository;
 import com.joaopedroaguiar.tennisclub.repository.CourtRepository;
 import com.joaopedroaguiar.tennisclub.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço BookingService - Lógica de negócios para operações com agendamentos
@@ -37,31 +74,72 @@ public class BookingService {
     @Autowired
     private UserRepository userRepository;
 
-    // Horários de funcionamento do clube
-    private static final LocalTime OPENING_TIME = LocalTime.of(6, 0);  // 06:00
-    private static final LocalTime CLOSING_TIME = LocalTime.of(22, 0); // 22:00
+    @Autowired
+    private CourtOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private CourtCatalogCache courtCatalog;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Paginação por cursor
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Listagens legadas (sem paginação): registros por resposta antes do truncamento
+    private static final int LEGACY_LIST_LIMIT = 1_000;
+
+    // Exportação: registros entre cada limpeza do contexto de persistência
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    // Período máximo da grade de disponibilidade
+    private static final int MAX_MATRIX_DAYS = 31;
+
+    // Importação em lote: múltiplo de hibernate.jdbc.batch_size
+    private static final int MAX_IMPORT_SIZE = 100_000;
+    private static final int IMPORT_FLUSH_INTERVAL = 1_000;
+
+    // Tentativas de transição de status quando o status é alterado concorrentemente
+    private static final int MAX_STATUS_ATTEMPTS = 3;
+
+    // Transição de status em lote: limite por requisição e tamanho de cada UPDATE
+    private static final int MAX_BULK_STATUS_SIZE = 10_000;
+    private static final int BULK_STATUS_CHUNK_SIZE = 1_000;
 
     /**
      * Cria um novo agendamento
      * @param bookingDTO Dados do agendamento a ser criado
      * @return DTO do agendamento criado
-     * @throws RuntimeException se houver conflito de horário ou dados inválidos
+     * @throws BusinessException se houver conflito de horário ou dados inválidos
      */
     public BookingDTO createBooking(BookingDTO bookingDTO) {
-        // Busca a quadra
-        Court court = courtRepository.findById(bookingDTO.getCourtId())
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + bookingDTO.getCourtId()));
+        // Busca a quadra no catálogo em cache; a associação usa apenas uma referência
+        CourtDTO courtData = courtCatalog.findById(bookingDTO.getCourtId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + bookingDTO.getCourtId()));
+        Court court = courtRepository.getReferenceById(courtData.getId());
 
         // Busca o usuário
         User user = userRepository.findById(bookingDTO.getUserId())
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + bookingDTO.getUserId()));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + bookingDTO.getUserId()));
 
         // Validações
         validateBookingTime(bookingDTO.getBookingDate(), bookingDTO.getStartTime(), bookingDTO.getEndTime());
+
+        // Admissão: reserva o horário em memória antes de consultar o banco, de modo que
+        // requisições concorrentes para o mesmo horário sejam rejeitadas deterministicamente
+        admit(courtData.getName(), occupancyIndex.tryClaim(court.getId(), bookingDTO.getBookingDate(),
+                bookingDTO.getStartTime(), bookingDTO.getEndTime()));
         validateCourtAvailability(court, bookingDTO.getBookingDate(), bookingDTO.getStartTime(), bookingDTO.getEndTime(), null);
 
         // Calcula o preço total
-        BigDecimal totalPrice = calculateTotalPrice(court, bookingDTO.getStartTime(), bookingDTO.getEndTime());
+        BigDecimal totalPrice = BookingRules.calculateTotalPrice(courtData.getPricePerHour(), bookingDTO.getStartTime(), bookingDTO.getEndTime());
 
         // Cria o agendamento
         Booking booking = new Booking();
@@ -75,31 +153,290 @@ public class BookingService {
         booking.setNotes(bookingDTO.getNotes());
 
         Booking savedBooking = bookingRepository.save(booking);
-        return new BookingDTO(savedBooking);
+        publishAfterCommit(List.of(BookingChangedEvent.created(savedBooking)));
+        return new BookingDTO(savedBooking, courtData.getName(), user.getName());
     }
 
     /**
-     * Busca todos os agendamentos
-     * @return Lista de DTOs dos agendamentos
+     * Converte uma reserva temporária em agendamento confirmado (checkout). O horário já está
+     * ocupado no índice pela reserva, que é efetivada no commit ou desfeita no rollback.
+     * @param hold Reserva temporária retirada do SlotHoldService
+     * @param notes Observações do agendamento
+     * @return DTO do agendamento criado
+     * @throws BusinessException se a quadra/usuário não existir ou houver conflito no banco
      */
-    @Transactional(readOnly = true)
-    public List<BookingDTO> getAllBookings() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(BookingDTO::new)
+    public BookingDTO createBookingFromHold(SlotHoldService.Hold hold, String notes) {
+        bindToTransaction(List.of(hold.getClaim()));
+
+        CourtDTO courtData = courtCatalog.findById(hold.getCourtId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + hold.getCourtId()));
+        Court court = courtRepository.getReferenceById(courtData.getId());
+        User user = userRepository.findById(hold.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + hold.getUserId()));
+
+        validateBookingTime(hold.getBookingDate(), hold.getStartTime(), hold.getEndTime());
+        validateCourtAvailability(court, hold.getBookingDate(), hold.getStartTime(), hold.getEndTime(), null);
+
+        BigDecimal totalPrice = BookingRules.calculateTotalPrice(courtData.getPricePerHour(), hold.getStartTime(), hold.getEndTime());
+        Booking booking = new Booking(court, user, hold.getBookingDate(), hold.getStartTime(), hold.getEndTime(), totalPrice);
+        booking.setStatus(Booking.BookingStatus.CONFIRMED);
+        booking.setNotes(notes);
+
+        Booking savedBooking = bookingRepository.save(booking);
+        publishAfterCommit(List.of(BookingChangedEvent.created(savedBooking)));
+        return new BookingDTO(savedBooking, courtData.getName(), user.getName());
+    }
+
+    /**
+     * Cria uma série de agendamentos recorrentes, aceita ou rejeitada atomicamente
+     * @param recurringDTO Regra de recorrência da série
+     * @return DTOs dos agendamentos criados, em ordem de data
+     * @throws BusinessException se alguma ocorrência tiver conflito de horário ou dados inválidos
+     */
+    public List<BookingDTO> createRecurringBooking(RecurringBookingDTO recurringDTO) {
+        CourtDTO courtData = courtCatalog.findById(recurringDTO.getCourtId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + recurringDTO.getCourtId()));
+        Court court = courtRepository.getReferenceById(courtData.getId());
+
+        User user = userRepository.findById(recurringDTO.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + recurringDTO.getUserId()));
+
+        LocalTime startTime = recurringDTO.getStartTime();
+        LocalTime endTime = recurringDTO.getEndTime();
+        List<LocalDate> dates = recurringDTO.getOccurrenceDates();
+        for (LocalDate date : dates) {
+            validateBookingTime(date, startTime, endTime);
+        }
+
+        // Admissão de todas as ocorrências: os dias ausentes do índice são carregados com uma
+        // única consulta e, se qualquer ocorrência estiver ocupada, nenhuma é reservada
+        occupancyIndex.preload(court.getId(), dates);
+        List<CourtOccupancyIndex.Claim> claims = new ArrayList<>(dates.size());
+        List<LocalDate> conflicts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            CourtOccupancyIndex.Claim claim = occupancyIndex.tryClaim(court.getId(), date, startTime, endTime);
+            if (claim != null) {
+                claims.add(claim);
+            } else {
+                conflicts.add(date);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            claims.forEach(CourtOccupancyIndex.Claim::rollback);
+            throw new ConflictException("Já existe um agendamento para este horário na quadra "
+                    + courtData.getName() + " nas datas: " + conflicts);
+        }
+        bindToTransaction(claims);
+
+        // Verificação de conflitos no banco para todas as ocorrências em uma única consulta
+        List<LocalDate> conflictingDates = bookingRepository.findConflictingDates(court, dates, startTime, endTime);
+        if (!conflictingDates.isEmpty()) {
+            throw new ConflictException("Já existe um agendamento para este horário na quadra "
+                    + courtData.getName() + " nas datas: " + conflictingDates);
+        }
+
+        BigDecimal totalPrice = BookingRules.calculateTotalPrice(courtData.getPricePerHour(), startTime, endTime);
+        List<Booking> bookings = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            Booking booking = new Booking(court, user, date, startTime, endTime, totalPrice);
+            booking.setStatus(Booking.BookingStatus.PENDING);
+            booking.setNotes(recurringDTO.getNotes());
+            bookings.add(booking);
+        }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        publishAfterCommit(savedBookings.stream().map(BookingChangedEvent::created).collect(Collectors.toList()));
+        return savedBookings.stream()
+                .map(booking -> new BookingDTO(booking, courtData.getName(), user.getName()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Importa agendamentos em lote (ex.: migração de outro sistema de clube). A importação é
+     * atômica; os registros são inseridos com batching JDBC e o contexto de persistência é
+     * limpo periodicamente. Datas passadas são aceitas, para permitir importar histórico.
+     * Após o commit é publicado um único BookingDaysChangedEvent com os dias afetados.
+     * @param bookingDTOs Agendamentos a importar (status padrão PENDING; preço calculado se ausente)
+     * @return Número de agendamentos importados
+     * @throws BusinessException se houver dados inválidos, quadra/usuário inexistente ou conflito de horário
+     */
+    public int importBookings(List<BookingDTO> bookingDTOs) {
+        if (bookingDTOs.size() > MAX_IMPORT_SIZE) {
+            throw new ValidationException("Importação limitada a " + MAX_IMPORT_SIZE + " agendamentos por requisição");
+        }
+
+        // Valida quadras (catálogo em cache) e usuários (uma única consulta)
+        Set<Long> userIds = bookingDTOs.stream().map(BookingDTO::getUserId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingUserIds = userRepository.findAllById(userIds).stream().map(User::getId).collect(Collectors.toSet());
+        Map<Long, CourtDTO> courts = new HashMap<>();
+        for (BookingDTO dto : bookingDTOs) {
+            if (dto.getCourtId() == null || dto.getUserId() == null || dto.getBookingDate() == null
+                    || dto.getStartTime() == null || dto.getEndTime() == null) {
+                throw new ValidationException("Quadra, usuário, data e horários são obrigatórios");
+            }
+            if (!dto.getStartTime().isBefore(dto.getEndTime())) {
+                throw new ValidationException("Horário de início deve ser anterior ao horário de fim");
+            }
+            if (!existingUserIds.contains(dto.getUserId())) {
+                throw new ResourceNotFoundException("Usuário não encontrado com ID: " + dto.getUserId());
+            }
+            courts.computeIfAbsent(dto.getCourtId(), courtId -> courtCatalog.findById(courtId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId)));
+        }
+
+        // Admissão dos agendamentos ativos: uma consulta por quadra para carregar os dias ausentes
+        Map<Long, Set<LocalDate>> activeDatesByCourt = new HashMap<>();
+        for (BookingDTO dto : bookingDTOs) {
+            if (isActive(dto.getStatus())) {
+                activeDatesByCourt.computeIfAbsent(dto.getCourtId(), courtId -> new HashSet<>()).add(dto.getBookingDate());
+            }
+        }
+        activeDatesByCourt.forEach(occupancyIndex::preload);
+        List<CourtOccupancyIndex.Claim> claims = new ArrayList<>();
+        for (BookingDTO dto : bookingDTOs) {
+            if (!isActive(dto.getStatus())) {
+                continue;
+            }
+            CourtOccupancyIndex.Claim claim = occupancyIndex.tryClaim(dto.getCourtId(), dto.getBookingDate(),
+                    dto.getStartTime(), dto.getEndTime());
+            if (claim == null) {
+                claims.forEach(CourtOccupancyIndex.Claim::rollback);
+                throw new ConflictException("Já existe um agendamento para este horário na quadra "
+                        + courts.get(dto.getCourtId()).getName() + " em " + dto.getBookingDate() + " " + dto.getStartTime());
+            }
+            claims.add(claim);
+        }
+        bindToTransaction(claims);
+
+        // Inserção em lotes; os ouvintes recebem um único evento com os dias afetados
+        Map<Long, Set<LocalDate>> affectedDays = new HashMap<>();
+        int imported = 0;
+        for (BookingDTO dto : bookingDTOs) {
+            BigDecimal totalPrice = dto.getTotalPrice() != null ? dto.getTotalPrice()
+                    : BookingRules.calculateTotalPrice(courts.get(dto.getCourtId()).getPricePerHour(), dto.getStartTime(), dto.getEndTime());
+            Booking booking = new Booking(courtRepository.getReferenceById(dto.getCourtId()),
+                    userRepository.getReferenceById(dto.getUserId()),
+                    dto.getBookingDate(), dto.getStartTime(), dto.getEndTime(), totalPrice);
+            booking.setStatus(dto.getStatus() != null ? dto.getStatus() : Booking.BookingStatus.PENDING);
+            booking.setNotes(dto.getNotes());
+            entityManager.persist(booking);
+            affectedDays.computeIfAbsent(dto.getCourtId(), courtId -> new HashSet<>()).add(dto.getBookingDate());
+
+            if (++imported % IMPORT_FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        publishAfterCommit(List.of(new BookingDaysChangedEvent(affectedDays, imported)));
+        return imported;
+    }
+
+    /**
+     * Busca os agendamentos (listagem legada, limitada a {@value #LEGACY_LIST_LIMIT} registros)
+     * @return Primeiros agendamentos por data, horário e ID; nextCursor indica que a lista foi
+     * truncada e continua em {@link #getBookingsPage(String, Integer)}
+     */
+    @Transactional(readOnly = true)
+    public BookingPageDTO getAllBookings() {
+        BookingCursor start = BookingCursor.START;
+        return toPage(bookingRepository.findPageAfter(start.getBookingDate(), start.getStartTime(), start.getId(),
+                PageRequest.of(0, LEGACY_LIST_LIMIT + 1)), LEGACY_LIST_LIMIT);
+    }
+
+    /**
+     * Busca uma página de agendamentos usando paginação por cursor
+     * @param cursor Token de continuação retornado pela página anterior (null na primeira)
+     * @param size Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de agendamentos e token da próxima página
+     */
+    @Transactional(readOnly = true)
+    public BookingPageDTO getBookingsPage(String cursor, Integer size) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return toPage(bookingRepository.findPageAfter(after.getBookingDate(), after.getStartTime(),
+                after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Busca uma página de agendamentos por status usando paginação por cursor
+     * @param status Status dos agendamentos
+     * @param cursor Token de continuação retornado pela página anterior (null na primeira)
+     * @param size Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de agendamentos e token da próxima página
+     */
+    @Transactional(readOnly = true)
+    public BookingPageDTO getBookingsByStatusPage(Booking.BookingStatus status, String cursor, Integer size) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return toPage(bookingRepository.findPageByStatusAfter(status, after.getBookingDate(), after.getStartTime(),
+                after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Busca uma página de agendamentos de uma quadra usando paginação por cursor
+     * @param courtId ID da quadra
+     * @param cursor Token de continuação retornado pela página anterior (null na primeira)
+     * @param size Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de agendamentos e token da próxima página
+     * @throws ResourceNotFoundException se a quadra não for encontrada
+     */
+    @Transactional(readOnly = true)
+    public BookingPageDTO getBookingsByCourtPage(Long courtId, String cursor, Integer size) {
+        if (courtCatalog.findById(courtId).isEmpty()) {
+            throw new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId);
+        }
+        BookingCursor after = BookingCursor.decode(cursor);
+        int pageSize = pageSize(size);
+        return toPage(bookingRepository.findPageByCourtAfter(courtId, after.getBookingDate(), after.getStartTime(),
+                after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Exporta agendamentos em JSON delimitado por linhas (NDJSON) diretamente para o stream,
+     * com memória constante: os registros são lidos do cursor JDBC e o contexto de persistência
+     * é limpo periodicamente
+     * @param startDate Data inicial (inclusiva)
+     * @param endDate Data final (inclusiva)
+     * @param courtId ID da quadra (opcional)
+     * @param status Status dos agendamentos (opcional)
+     * @param output Stream de saída da resposta
+     * @return Número de agendamentos exportados
+     * @throws IOException se houver falha de escrita
+     */
+    @Transactional(readOnly = true)
+    public long exportBookings(LocalDate startDate, LocalDate endDate, Long courtId,
+                               Booking.BookingStatus status, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookingDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OutputStream buffered = new BufferedOutputStream(output, 64 * 1024);
+        long exported = 0;
+
+        try (Stream<Booking> bookings = bookingRepository.streamForExport(startDate, endDate, courtId, status)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(buffered, new BookingDTO(iterator.next()));
+                buffered.write('\n');
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        buffered.flush();
+        return exported;
+    }
+
     /**
      * Busca agendamento por ID
      * @param id ID do agendamento
      * @return DTO do agendamento encontrado
-     * @throws RuntimeException se o agendamento não for encontrado
+     * @throws ResourceNotFoundException se o agendamento não for encontrado
      */
     @Transactional(readOnly = true)
     public BookingDTO getBookingById(Long id) {
         Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Agendamento não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Agendamento não encontrado com ID: " + id));
         return new BookingDTO(booking);
     }
 
@@ -111,7 +448,7 @@ public class BookingService {
     @Transactional(readOnly = true)
     public List<BookingDTO> getBookingsByUser(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + userId));
 
         return bookingRepository.findByUserOrderByDateAndTime(user)
                 .stream()
@@ -120,19 +457,20 @@ public class BookingService {
     }
 
     /**
-     * Busca agendamentos por quadra
+     * Busca agendamentos por quadra (listagem legada, limitada a {@value #LEGACY_LIST_LIMIT} registros)
      * @param courtId ID da quadra
-     * @return Lista de DTOs dos agendamentos da quadra
+     * @return Primeiros agendamentos da quadra; nextCursor indica que a lista foi truncada e
+     * continua em {@link #getBookingsByCourtPage(Long, String, Integer)}
+     * @throws ResourceNotFoundException se a quadra não for encontrada
      */
     @Transactional(readOnly = true)
-    public List<BookingDTO> getBookingsByCourt(Long courtId) {
-        Court court = courtRepository.findById(courtId)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + courtId));
-
-        return bookingRepository.findByCourt(court)
-                .stream()
-                .map(BookingDTO::new)
-                .collect(Collectors.toList());
+    public BookingPageDTO getBookingsByCourt(Long courtId) {
+        if (courtCatalog.findById(courtId).isEmpty()) {
+            throw new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId);
+        }
+        BookingCursor start = BookingCursor.START;
+        return toPage(bookingRepository.findPageByCourtAfter(courtId, start.getBookingDate(), start.getStartTime(),
+                start.getId(), PageRequest.of(0, LEGACY_LIST_LIMIT + 1)), LEGACY_LIST_LIMIT);
     }
 
     /**
@@ -149,16 +487,16 @@ public class BookingService {
     }
 
     /**
-     * Busca agendamentos por status
+     * Busca agendamentos por status (listagem legada, limitada a {@value #LEGACY_LIST_LIMIT} registros)
      * @param status Status dos agendamentos
-     * @return Lista de DTOs dos agendamentos com o status especificado
+     * @return Primeiros agendamentos com o status; nextCursor indica que a lista foi truncada e
+     * continua em {@link #getBookingsByStatusPage(Booking.BookingStatus, String, Integer)}
      */
     @Transactional(readOnly = true)
-    public List<BookingDTO> getBookingsByStatus(Booking.BookingStatus status) {
-        return bookingRepository.findByStatus(status)
-                .stream()
-                .map(BookingDTO::new)
-                .collect(Collectors.toList());
+    public BookingPageDTO getBookingsByStatus(Booking.BookingStatus status) {
+        BookingCursor start = BookingCursor.START;
+        return toPage(bookingRepository.findPageByStatusAfter(status, start.getBookingDate(), start.getStartTime(),
+                start.getId(), PageRequest.of(0, LEGACY_LIST_LIMIT + 1)), LEGACY_LIST_LIMIT);
     }
 
     /**
@@ -169,7 +507,7 @@ public class BookingService {
     @Transactional(readOnly = true)
     public List<BookingDTO> getFutureBookingsByUser(Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + userId));
 
         return bookingRepository.findFutureBookingsByUser(user, LocalDate.now())
                 .stream()
@@ -195,31 +533,73 @@ public class BookingService {
      * @param date Data para verificar disponibilidade
      * @return Lista de horários disponíveis
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AvailableTimeSlotDTO> getAvailableTimeSlots(Long courtId, LocalDate date) {
-        Court court = courtRepository.findById(courtId)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + courtId));
+        if (courtCatalog.findById(courtId).isEmpty()) {
+            throw new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId);
+        }
+
+        // Responde a partir do bitmap de ocupação em memória, sem carregar agendamentos
+        return BookingRules.timeSlots(occupancyIndex.occupancy(courtId, date));
+    }
 
-        List<Booking> existingBookings = bookingRepository.findByCourtAndBookingDate(court, date);
-        List<AvailableTimeSlotDTO> availableSlots = new ArrayList<>();
+    /**
+     * ETag dos horários disponíveis de uma quadra em uma data: combina a versão do catálogo
+     * de quadras e a versão do dia no índice de ocupação. Calculado antes dos horários, sem
+     * consultar o banco quando o dia já está em memória.
+     * @param courtId ID da quadra
+     * @param date Data
+     * @return ETag atual, ou null se a quadra não existir
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getAvailableTimeSlotsETag(Long courtId, LocalDate date) {
+        long catalogVersion = courtCatalog.version();
+        if (courtCatalog.findById(courtId).isEmpty()) {
+            return null;
+        }
+        return ETags.of("slots", catalogVersion, occupancyIndex.version(courtId, date));
+    }
 
-        // Gera slots de 1 hora das 6h às 22h
-        LocalTime currentTime = OPENING_TIME;
-        while (currentTime.isBefore(CLOSING_TIME)) {
-            LocalTime endTime = currentTime.plusHours(1);
-            
-            boolean isAvailable = existingBookings.stream()
-                    .filter(booking -> booking.getStatus() == Booking.BookingStatus.PENDING || 
-                                     booking.getStatus() == Booking.BookingStatus.CONFIRMED)
-                    .noneMatch(booking -> 
-                        (booking.getStartTime().isBefore(endTime) && booking.getEndTime().isAfter(currentTime))
-                    );
+    /**
+     * Monta a grade de disponibilidade de várias quadras em um período, carregando os dias
+     * ausentes do índice de ocupação com uma única consulta
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     * @param courtIds IDs das quadras (null ou vazio para todas as quadras ativas)
+     * @return Grade com uma máscara de slots livres por quadra e dia
+     * @throws BusinessException se o período for inválido ou alguma quadra não for encontrada
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AvailabilityMatrixDTO getAvailabilityMatrix(LocalDate startDate, LocalDate endDate, List<Long> courtIds) {
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Data inicial deve ser anterior ou igual à data final");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (dayCount > MAX_MATRIX_DAYS) {
+            throw new ValidationException("Período máximo da grade de disponibilidade é de " + MAX_MATRIX_DAYS + " dias");
+        }
 
-            availableSlots.add(new AvailableTimeSlotDTO(currentTime, endTime, isAvailable));
-            currentTime = endTime;
+        List<CourtDTO> courts;
+        if (courtIds == null || courtIds.isEmpty()) {
+            courts = courtCatalog.active();
+        } else {
+            courts = courtIds.stream()
+                    .distinct()
+                    .map(courtId -> courtCatalog.findById(courtId)
+                            .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId)))
+                    .collect(Collectors.toList());
         }
 
-        return availableSlots;
+        occupancyIndex.preloadRange(courts.stream().map(CourtDTO::getId).collect(Collectors.toList()), startDate, endDate);
+        List<AvailabilityMatrixDTO.CourtAvailability> rows = new ArrayList<>(courts.size());
+        for (CourtDTO court : courts) {
+            long[] days = new long[dayCount];
+            for (int i = 0; i < dayCount; i++) {
+                days[i] = BookingRules.availabilityMask(occupancyIndex.occupancy(court.getId(), startDate.plusDays(i)));
+            }
+            rows.add(new AvailabilityMatrixDTO.CourtAvailability(court.getId(), court.getName(), days));
+        }
+        return new AvailabilityMatrixDTO(startDate, endDate, BookingRules.OPENING_TIME, 60, BookingRules.SLOT_COUNT, rows);
     }
 
     /**
@@ -227,21 +607,37 @@ public class BookingService {
      * @param id ID do agendamento
      * @param bookingDTO Dados atualizados do agendamento
      * @return DTO do agendamento atualizado
-     * @throws RuntimeException se o agendamento não for encontrado ou houver conflito
+     * @throws BusinessException se o agendamento não for encontrado ou houver conflito
      */
     public BookingDTO updateBooking(Long id, BookingDTO bookingDTO) {
         Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Agendamento não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Agendamento não encontrado com ID: " + id));
+
+        BookingChangedEvent.Snapshot before = BookingChangedEvent.Snapshot.of(booking);
+        Long courtId = booking.getCourt().getId();
+        LocalDate previousDate = booking.getBookingDate();
+        LocalTime previousStart = booking.getStartTime();
+        LocalTime previousEnd = booking.getEndTime();
 
         // Validações
         validateBookingTime(bookingDTO.getBookingDate(), bookingDTO.getStartTime(), bookingDTO.getEndTime());
+        if (booking.isActive()) {
+            if (previousDate.equals(bookingDTO.getBookingDate())) {
+                admit(booking.getCourt().getName(), occupancyIndex.tryReplace(courtId, previousDate, previousStart, previousEnd,
+                        bookingDTO.getStartTime(), bookingDTO.getEndTime()));
+            } else {
+                admit(booking.getCourt().getName(), occupancyIndex.tryClaim(courtId, bookingDTO.getBookingDate(),
+                        bookingDTO.getStartTime(), bookingDTO.getEndTime()));
+                afterCommit(() -> occupancyIndex.release(courtId, previousDate, previousStart, previousEnd));
+            }
+        }
         validateCourtAvailability(booking.getCourt(), bookingDTO.getBookingDate(), 
                                 bookingDTO.getStartTime(), bookingDTO.getEndTime(), id);
 
         // Recalcula o preço se o horário mudou
         if (!booking.getStartTime().equals(bookingDTO.getStartTime()) || 
             !booking.getEndTime().equals(bookingDTO.getEndTime())) {
-            BigDecimal newPrice = calculateTotalPrice(booking.getCourt(), 
+            BigDecimal newPrice = BookingRules.calculateTotalPrice(booking.getCourt().getPricePerHour(), 
                                                     bookingDTO.getStartTime(), bookingDTO.getEndTime());
             booking.setTotalPrice(newPrice);
         }
@@ -253,30 +649,114 @@ public class BookingService {
         booking.setNotes(bookingDTO.getNotes());
 
         Booking updatedBooking = bookingRepository.save(booking);
+        publishAfterCommit(List.of(BookingChangedEvent.updated(before, updatedBooking)));
         return new BookingDTO(updatedBooking);
     }
 
     /**
      * Atualiza o status de um agendamento
+     *
+     * A transição é aplicada com um UPDATE condicional ao status lido (sem read-modify-write).
+     * Se outra transação alterou o status nesse meio tempo, o agendamento é relido com bloqueio
+     * e a transição só é tentada novamente se ainda for válida a partir do novo status.
      * @param id ID do agendamento
      * @param status Novo status
      * @return DTO do agendamento atualizado
-     * @throws RuntimeException se o agendamento não for encontrado
+     * @throws ResourceNotFoundException se o agendamento não for encontrado
+     * @throws ConflictException se a transição não for permitida a partir do status atual
      */
     public BookingDTO updateBookingStatus(Long id, Booking.BookingStatus status) {
+        if (status == null) {
+            throw new ValidationException("Status é obrigatório");
+        }
         Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Agendamento não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Agendamento não encontrado com ID: " + id));
+
+        for (int attempt = 1; ; attempt++) {
+            Booking.BookingStatus from = booking.getStatus();
+            if (from == status) {
+                return new BookingDTO(booking);
+            }
+            if (!from.canTransitionTo(status)) {
+                throw new ConflictException("Transição de status inválida: " + from + " → " + status);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (bookingRepository.transitionStatus(id, from, status, now) == 1) {
+                if (from.isActive() && !status.isActive()) {
+                    releaseOccupancy(booking);
+                }
+                publishAfterCommit(List.of(BookingChangedEvent.statusChanged(booking, from, status)));
+                // A entidade gerenciada não é alterada: o UPDATE já incrementou a versão no banco
+                BookingDTO result = new BookingDTO(booking);
+                result.setStatus(status);
+                result.setUpdatedAt(now);
+                return result;
+            }
+            if (attempt == MAX_STATUS_ATTEMPTS) {
+                throw new ConflictException("Agendamento alterado concorrentemente. Tente novamente.");
+            }
+            // Leitura corrente (FOR UPDATE): uma leitura simples poderia devolver o snapshot da transação
+            entityManager.refresh(booking, LockModeType.PESSIMISTIC_WRITE);
+        }
+    }
 
-        booking.setStatus(status);
-        Booking updatedBooking = bookingRepository.save(booking);
-        return new BookingDTO(updatedBooking);
+    /**
+     * Aplica uma transição de status a vários agendamentos, selecionados por ID ou por data e
+     * status atual. Os agendamentos são processados em lotes: cada lote é bloqueado em ordem de
+     * ID e recebe um UPDATE por status de origem. A operação é atômica.
+     * @param request IDs ou filtro (data e status atual) e o novo status
+     * @return Resultado por ID e total de agendamentos alterados
+     * @throws ValidationException se a seleção for inválida ou exceder o limite
+     */
+    public BulkStatusResultDTO bulkUpdateStatus(BulkStatusUpdateDTO request) {
+        Booking.BookingStatus status = request.getStatus();
+        if (status == null) {
+            throw new ValidationException("Status é obrigatório");
+        }
+        List<Long> ids = resolveBulkStatusIds(request);
+        if (ids.size() > MAX_BULK_STATUS_SIZE) {
+            throw new ValidationException("A transição em lote é limitada a " + MAX_BULK_STATUS_SIZE + " agendamentos");
+        }
+
+        List<BulkStatusResultDTO.Item> results = new ArrayList<>(ids.size());
+        // Pelo filtro, só os agendamentos que ainda estiverem no status atual informado
+        Set<Booking.BookingStatus> sources = request.getCurrentStatus() != null
+                ? EnumSet.of(request.getCurrentStatus()) : EnumSet.allOf(Booking.BookingStatus.class);
+        int updated = applyStatusTransition(ids, sources, status, results);
+        return new BulkStatusResultDTO(status, ids.size(), updated, results);
+    }
+
+    /**
+     * Cancela os agendamentos PENDING não confirmados dentro do prazo ou cuja data já passou.
+     * Processa no máximo um lote por chamada (uma transação curta por lote).
+     * @param createdBefore Agendamentos PENDING criados antes deste instante expiram
+     * @param today Data atual (PENDING de datas anteriores também expiram)
+     * @param limit Tamanho máximo do lote
+     * @return Número de agendamentos alterados no lote
+     */
+    public int expirePendingBookings(LocalDateTime createdBefore, LocalDate today, int limit) {
+        List<Long> ids = bookingRepository.findIdsToExpire(Booking.BookingStatus.PENDING, createdBefore, today, PageRequest.of(0, limit));
+        // Um agendamento confirmado entre a seleção e o bloqueio não é cancelado
+        return applyStatusTransition(ids, EnumSet.of(Booking.BookingStatus.PENDING), Booking.BookingStatus.CANCELED, null);
+    }
+
+    /**
+     * Conclui os agendamentos CONFIRMED já encerrados. Processa no máximo um lote por chamada.
+     * @param now Data/hora atual
+     * @param limit Tamanho máximo do lote
+     * @return Número de agendamentos alterados no lote
+     */
+    public int completePastBookings(LocalDateTime now, int limit) {
+        List<Long> ids = bookingRepository.findIdsEndedBefore(Booking.BookingStatus.CONFIRMED, now.toLocalDate(), now.toLocalTime(),
+                PageRequest.of(0, limit));
+        return applyStatusTransition(ids, EnumSet.of(Booking.BookingStatus.CONFIRMED), Booking.BookingStatus.COMPLETED, null);
     }
 
     /**
      * Cancela um agendamento
      * @param id ID do agendamento
      * @return DTO do agendamento cancelado
-     * @throws RuntimeException se o agendamento não for encontrado
+     * @throws ResourceNotFoundException se o agendamento não for encontrado
      */
     public BookingDTO cancelBooking(Long id) {
         return updateBookingStatus(id, Booking.BookingStatus.CANCELED);
@@ -286,7 +766,7 @@ public class BookingService {
      * Confirma um agendamento
      * @param id ID do agendamento
      * @return DTO do agendamento confirmado
-     * @throws RuntimeException se o agendamento não for encontrado
+     * @throws ResourceNotFoundException se o agendamento não for encontrado
      */
     public BookingDTO confirmBooking(Long id) {
         return updateBookingStatus(id, Booking.BookingStatus.CONFIRMED);
@@ -295,13 +775,17 @@ public class BookingService {
     /**
      * Exclui um agendamento
      * @param id ID do agendamento
-     * @throws RuntimeException se o agendamento não for encontrado
+     * @throws ResourceNotFoundException se o agendamento não for encontrado
      */
     public void deleteBooking(Long id) {
         Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Agendamento não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Agendamento não encontrado com ID: " + id));
 
         bookingRepository.delete(booking);
+        if (booking.isActive()) {
+            releaseOccupancy(booking);
+        }
+        publishAfterCommit(List.of(BookingChangedEvent.deleted(booking)));
     }
 
     /**
@@ -316,26 +800,118 @@ public class BookingService {
 
     // Métodos privados de validação e cálculo
 
-    private void validateBookingTime(LocalDate date, LocalTime startTime, LocalTime endTime) {
-        // Verifica se a data não é no passado
-        if (date.isBefore(LocalDate.now())) {
-            throw new RuntimeException("Não é possível agendar para datas passadas");
+    private static boolean isActive(Booking.BookingStatus status) {
+        return status == null || status.isActive();
+    }
+
+    /**
+     * Aplica uma transição de status a uma lista de agendamentos, em lotes: cada lote é
+     * bloqueado em ordem de ID e recebe um UPDATE por status de origem
+     * @param sources Status de origem aceitos: agendamentos que, já bloqueados, estiverem em
+     *                outro status (alterados após a seleção dos IDs) são ignorados (CONFLICT)
+     * @param results Lista que recebe o resultado por ID (opcional)
+     * @return Número de agendamentos alterados
+     */
+    private int applyStatusTransition(List<Long> ids, Set<Booking.BookingStatus> sources, Booking.BookingStatus status,
+                                      List<BulkStatusResultDTO.Item> results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingChangedEvent> events = new ArrayList<>();
+        List<Runnable> releases = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_STATUS_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_STATUS_CHUNK_SIZE, ids.size()));
+            Map<Long, Booking> bookings = new HashMap<>();
+            for (Booking booking : bookingRepository.findAllForStatusUpdate(chunk)) {
+                bookings.put(booking.getId(), booking);
+            }
+
+            // As linhas estão bloqueadas: o status lido é o status que o UPDATE vai encontrar
+            Map<Booking.BookingStatus, List<Booking>> bySource = new EnumMap<>(Booking.BookingStatus.class);
+            for (Long id : chunk) {
+                Booking booking = bookings.get(id);
+                BulkStatusResultDTO.Outcome outcome;
+                if (booking == null) {
+                    outcome = BulkStatusResultDTO.Outcome.NOT_FOUND;
+                } else if (booking.getStatus() == status) {
+                    outcome = BulkStatusResultDTO.Outcome.UNCHANGED;
+                } else if (!sources.contains(booking.getStatus())) {
+                    outcome = BulkStatusResultDTO.Outcome.CONFLICT;
+                } else if (!booking.getStatus().canTransitionTo(status)) {
+                    outcome = BulkStatusResultDTO.Outcome.INVALID_TRANSITION;
+                } else {
+                    outcome = BulkStatusResultDTO.Outcome.UPDATED;
+                    bySource.computeIfAbsent(booking.getStatus(), key -> new ArrayList<>()).add(booking);
+                }
+                if (results != null) {
+                    results.add(new BulkStatusResultDTO.Item(id, booking != null ? booking.getStatus() : null, outcome));
+                }
+            }
+
+            for (Map.Entry<Booking.BookingStatus, List<Booking>> entry : bySource.entrySet()) {
+                Booking.BookingStatus source = entry.getKey();
+                List<Booking> group = entry.getValue();
+                List<Long> groupIds = group.stream().map(Booking::getId).collect(Collectors.toList());
+                if (bookingRepository.transitionStatusIn(groupIds, EnumSet.of(source), status, now) != group.size()) {
+                    throw new ConflictException("Agendamentos alterados concorrentemente. Tente novamente.");
+                }
+                for (Booking booking : group) {
+                    if (source.isActive() && !status.isActive()) {
+                        Long courtId = booking.getCourt().getId();
+                        LocalDate date = booking.getBookingDate();
+                        LocalTime startTime = booking.getStartTime();
+                        LocalTime endTime = booking.getEndTime();
+                        releases.add(() -> occupancyIndex.release(courtId, date, startTime, endTime));
+                    }
+                    events.add(BookingChangedEvent.statusChanged(booking, source, status));
+                }
+            }
+            entityManager.clear();
         }
 
-        // Verifica se o horário de início é antes do fim
-        if (startTime.isAfter(endTime) || startTime.equals(endTime)) {
-            throw new RuntimeException("Horário de início deve ser anterior ao horário de fim");
+        if (!releases.isEmpty()) {
+            afterCommit(() -> releases.forEach(Runnable::run));
         }
+        publishAfterCommit(events);
+        return events.size();
+    }
 
-        // Verifica se está dentro do horário de funcionamento
-        if (startTime.isBefore(OPENING_TIME) || endTime.isAfter(CLOSING_TIME)) {
-            throw new RuntimeException("Agendamento deve estar entre " + OPENING_TIME + " e " + CLOSING_TIME);
+    private List<Long> resolveBulkStatusIds(BulkStatusUpdateDTO request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byFilter = request.getBookingDate() != null || request.getCurrentStatus() != null;
+        if (byIds == byFilter) {
+            throw new ValidationException("Informe a lista de IDs ou o filtro de data e status atual");
+        }
+        if (byIds) {
+            if (request.getIds().contains(null)) {
+                throw new ValidationException("A lista de IDs não pode conter valores nulos");
+            }
+            return new ArrayList<>(new LinkedHashSet<>(request.getIds()));
         }
+        if (request.getBookingDate() == null || request.getCurrentStatus() == null) {
+            throw new ValidationException("O filtro exige a data e o status atual");
+        }
+        return bookingRepository.findIdsByStatusAndBookingDate(request.getCurrentStatus(), request.getBookingDate());
+    }
 
-        // Verifica duração mínima (1 hora)
-        if (Duration.between(startTime, endTime).toHours() < 1) {
-            throw new RuntimeException("Duração mínima do agendamento é de 1 hora");
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
         }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou um registro a mais que o tamanho
+     * da página: a existência desse registro indica que há uma próxima página
+     */
+    private BookingPageDTO toPage(List<Booking> bookings, int pageSize) {
+        boolean hasMore = bookings.size() > pageSize;
+        List<Booking> page = hasMore ? bookings.subList(0, pageSize) : bookings;
+        String nextCursor = hasMore ? BookingCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new BookingPageDTO(page.stream().map(BookingDTO::new).collect(Collectors.toList()), nextCursor);
+    }
+
+    private void validateBookingTime(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        BookingRules.validateBookingTime(date, startTime, endTime, LocalDate.now());
     }
 
     private void validateCourtAvailability(Court court, LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeBookingId) {
@@ -348,13 +924,81 @@ public class BookingService {
         }
 
         if (hasConflict) {
-            throw new RuntimeException("Já existe um agendamento para este horário na quadra " + court.getName());
+            throw new ConflictException("Já existe um agendamento para este horário na quadra " + court.getName());
         }
     }
 
-    private BigDecimal calculateTotalPrice(Court court, LocalTime startTime, LocalTime endTime) {
-        long hours = Duration.between(startTime, endTime).toHours();
-        return court.getPricePerHour().multiply(BigDecimal.valueOf(hours));
+    /**
+     * Vincula a reserva em memória à transação corrente: ela é efetivada no commit e
+     * desfeita no rollback
+     * @throws ConflictException se o horário já estiver reservado
+     */
+    private void admit(String courtName, CourtOccupancyIndex.Claim claim) {
+        if (claim == null) {
+            throw new ConflictException("Já existe um agendamento para este horário na quadra " + courtName);
+        }
+        bindToTransaction(List.of(claim));
+    }
+
+    private void bindToTransaction(List<CourtOccupancyIndex.Claim> claims) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            claims.forEach(CourtOccupancyIndex.Claim::commit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    claims.forEach(CourtOccupancyIndex.Claim::commit);
+                } else {
+                    claims.forEach(CourtOccupancyIndex.Claim::rollback);
+                }
+            }
+        });
+    }
+
+    private void releaseOccupancy(Booking booking) {
+        Long courtId = booking.getCourt().getId();
+        LocalDate date = booking.getBookingDate();
+        LocalTime startTime = booking.getStartTime();
+        LocalTime endTime = booking.getEndTime();
+        afterCommit(() -> occupancyIndex.release(courtId, date, startTime, endTime));
     }
-}
 
+    /**
+     * Publica os eventos de alteração somente se a transação for confirmada. A sincronização
+     * é registrada depois das reservas e liberações do índice de ocupação, de modo que os
+     * ouvintes já encontram o índice atualizado
+     */
+    private void publishAfterCommit(List<?> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(eventPublisher::publishEvent);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    events.forEach(eventPublisher::publishEvent);
+                }
+            }
+        });
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente (ou imediatamente, se não houver
+     * transação ativa), evitando que o índice em memória reflita alterações revertidas
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
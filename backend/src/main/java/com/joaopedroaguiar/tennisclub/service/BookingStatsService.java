@@ -0,0 +1,181 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.dto.DailyTotalsDTO;
+import com.joaopedroaguiar.tennisclub.dto.UtilizationDTO;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço BookingStatsService - Relatórios de receita e ocupação das quadras
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Os relatórios são calculados a partir dos totais diários do BookingAggregateStore, sem
+ * percorrer a tabela de agendamentos. A reconciliação periódica recalcula no banco os dias
+ * em memória e corrige eventuais divergências.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingStatsService {
+
+    // Período máximo dos relatórios
+    private static final int MAX_REPORT_DAYS = 366;
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+    private static final long OPEN_MINUTES_PER_DAY = BookingRules.SLOT_COUNT * 60L;
+
+    private final BookingAggregateStore aggregateStore;
+    private final CourtCatalogCache courtCatalog;
+    private final Counter correctedDays;
+
+    public BookingStatsService(BookingAggregateStore aggregateStore, CourtCatalogCache courtCatalog, MeterRegistry meterRegistry) {
+        this.aggregateStore = aggregateStore;
+        this.courtCatalog = courtCatalog;
+        this.correctedDays = Counter.builder("tennisclub.bookings.aggregates.corrected")
+                .description("Dias de totais corrigidos pela reconciliação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Totais por quadra, dia e status em um período (apenas combinações com agendamentos)
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     * @param courtIds IDs das quadras (padrão: todas as quadras)
+     * @return Totais em ordem de quadra, data e status
+     * @throws ValidationException se o período for inválido
+     * @throws ResourceNotFoundException se alguma quadra não for encontrada
+     */
+    public List<DailyTotalsDTO> getDailyTotals(LocalDate startDate, LocalDate endDate, List<Long> courtIds) {
+        validatePeriod(startDate, endDate);
+        List<CourtDTO> courts = resolveCourts(courtIds);
+        Map<Long, BookingAggregateStore.DayTotals[]> totals = aggregateStore.totals(ids(courts), startDate, endDate);
+
+        List<DailyTotalsDTO> result = new ArrayList<>();
+        for (CourtDTO court : courts) {
+            BookingAggregateStore.DayTotals[] days = totals.get(court.getId());
+            for (int i = 0; i < days.length; i++) {
+                for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+                    if (days[i].bookings(status) > 0) {
+                        result.add(new DailyTotalsDTO(court.getId(), startDate.plusDays(i), status, days[i].bookings(status),
+                                hours(days[i].minutes(status)), days[i].revenue(status)));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ocupação e receita por quadra, agrupadas por dia, semana (segunda a domingo) ou mês
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     * @param courtIds IDs das quadras (padrão: todas as quadras ativas)
+     * @param period Agrupamento
+     * @return Uma linha por quadra e período, em ordem de quadra e data
+     * @throws ValidationException se o período for inválido
+     * @throws ResourceNotFoundException se alguma quadra não for encontrada
+     */
+    public List<UtilizationDTO> getUtilization(LocalDate startDate, LocalDate endDate, List<Long> courtIds, UtilizationDTO.Period period) {
+        validatePeriod(startDate, endDate);
+        List<CourtDTO> courts = courtIds == null || courtIds.isEmpty() ? courtCatalog.active() : resolveCourts(courtIds);
+        Map<Long, BookingAggregateStore.DayTotals[]> totals = aggregateStore.totals(ids(courts), startDate, endDate);
+
+        List<UtilizationDTO> result = new ArrayList<>();
+        for (CourtDTO court : courts) {
+            BookingAggregateStore.DayTotals[] days = totals.get(court.getId());
+            LocalDate periodStart = startDate;
+            while (!periodStart.isAfter(endDate)) {
+                LocalDate periodEnd = periodEnd(periodStart, period);
+                periodEnd = periodEnd.isAfter(endDate) ? endDate : periodEnd;
+                long bookings = 0;
+                long bookedMinutes = 0;
+                BigDecimal revenue = BigDecimal.ZERO;
+                int from = (int) ChronoUnit.DAYS.between(startDate, periodStart);
+                int to = (int) ChronoUnit.DAYS.between(startDate, periodEnd);
+                for (int i = from; i <= to; i++) {
+                    for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+                        if (status != Booking.BookingStatus.CANCELED) {
+                            bookings += days[i].bookings(status);
+                            bookedMinutes += days[i].minutes(status);
+                        }
+                    }
+                    revenue = revenue.add(days[i].revenue(Booking.BookingStatus.CONFIRMED))
+                            .add(days[i].revenue(Booking.BookingStatus.COMPLETED));
+                }
+                long openMinutes = (to - from + 1) * OPEN_MINUTES_PER_DAY;
+                BigDecimal utilization = BigDecimal.valueOf(bookedMinutes * 100)
+                        .divide(BigDecimal.valueOf(openMinutes), 1, RoundingMode.HALF_UP);
+                result.add(new UtilizationDTO(court.getId(), court.getName(), periodStart, periodEnd, bookings,
+                        hours(bookedMinutes), hours(openMinutes), utilization, revenue.setScale(2, RoundingMode.HALF_UP)));
+                periodStart = periodEnd.plusDays(1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reconcilia os totais em memória com o banco (por padrão, diariamente às 03:30)
+     */
+    @Scheduled(cron = "${tennisclub.bookings.aggregates.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        correctedDays.increment(aggregateStore.reconcile());
+    }
+
+    // Métodos privados auxiliares
+
+    private static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Data inicial deve ser anterior ou igual à data final");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_REPORT_DAYS) {
+            throw new ValidationException("Período máximo dos relatórios é de " + MAX_REPORT_DAYS + " dias");
+        }
+    }
+
+    private List<CourtDTO> resolveCourts(List<Long> courtIds) {
+        if (courtIds == null || courtIds.isEmpty()) {
+            return courtCatalog.all();
+        }
+        return courtIds.stream()
+                .distinct()
+                .map(courtId -> courtCatalog.findById(courtId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + courtId)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<CourtDTO> courts) {
+        return courts.stream().map(CourtDTO::getId).collect(Collectors.toList());
+    }
+
+    private static LocalDate periodEnd(LocalDate periodStart, UtilizationDTO.Period period) {
+        switch (period) {
+            case WEEK:
+                return periodStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH:
+                return periodStart.with(TemporalAdjusters.lastDayOfMonth());
+            default:
+                return periodStart;
+        }
+    }
+
+    private static BigDecimal hours(long minutes) {
+        return BigDecimal.valueOf(minutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,166 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.repository.CourtRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Componente CourtCatalogCache - Cache em memória do catálogo de quadras
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * O catálogo é pequeno e muda raramente: é carregado inteiro em um snapshot imutável, com
+ * as visões ordenadas (por preço, por nome e a mais barata) já calculadas. Qualquer escrita
+ * no CourtService invalida o snapshot, que é recarregado na próxima leitura.
+ * Os DTOs do snapshot são compartilhados entre as requisições e não devem ser alterados.
+ */
+@Component
+public class CourtCatalogCache {
+
+    private final CourtRepository courtRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CourtCatalogCache(CourtRepository courtRepository, MeterRegistry meterRegistry) {
+        this.courtRepository = courtRepository;
+        this.hits = Counter.builder("tennisclub.court.cache.requests")
+                .description("Leituras do catálogo de quadras em cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tennisclub.court.cache.requests")
+                .description("Leituras do catálogo de quadras em cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca uma quadra pelo ID
+     * @param id ID da quadra
+     * @return Optional contendo a quadra se encontrada
+     */
+    public Optional<CourtDTO> findById(Long id) {
+        return Optional.ofNullable(current().byId.get(id));
+    }
+
+    /**
+     * @return Todas as quadras, ordenadas por ID
+     */
+    public List<CourtDTO> all() {
+        return current().all;
+    }
+
+    /**
+     * @return Quadras ativas, ordenadas por ID
+     */
+    public List<CourtDTO> active() {
+        return current().active;
+    }
+
+    /**
+     * @return Quadras ativas ordenadas por preço crescente
+     */
+    public List<CourtDTO> activeByPrice() {
+        return current().activeByPrice;
+    }
+
+    /**
+     * @return Quadras ativas ordenadas por nome
+     */
+    public List<CourtDTO> activeByName() {
+        return current().activeByName;
+    }
+
+    /**
+     * @return Quadra ativa mais barata, se houver
+     */
+    public Optional<CourtDTO> cheapestActive() {
+        List<CourtDTO> byPrice = current().activeByPrice;
+        return byPrice.isEmpty() ? Optional.empty() : Optional.of(byPrice.get(0));
+    }
+
+    /**
+     * Versão do catálogo: muda a cada invalidação
+     * @return Geração atual do cache
+     */
+    public long version() {
+        return generation.get();
+    }
+
+    /**
+     * Invalida o catálogo imediatamente e novamente ao fim da transação corrente, para que
+     * nenhuma leitura concorrente mantenha em cache dados anteriores ao commit
+     */
+    public void invalidate() {
+        bump();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump();
+                }
+            });
+        }
+    }
+
+    // Métodos privados de carga
+
+    private void bump() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation == generation.get()) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        long loadedGeneration = generation.get();
+        Snapshot loaded = new Snapshot(loadedGeneration, courtRepository.findAll().stream()
+                .map(CourtDTO::new)
+                .sorted(Comparator.comparing(CourtDTO::getId))
+                .collect(Collectors.toList()));
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    private static final class Snapshot {
+
+        private final long generation;
+        private final List<CourtDTO> all;
+        private final Map<Long, CourtDTO> byId;
+        private final List<CourtDTO> active;
+        private final List<CourtDTO> activeByPrice;
+        private final List<CourtDTO> activeByName;
+
+        Snapshot(long generation, List<CourtDTO> courts) {
+            this.generation = generation;
+            this.all = List.copyOf(courts);
+            this.byId = courts.stream().collect(Collectors.toUnmodifiableMap(CourtDTO::getId, Function.identity()));
+            this.active = courts.stream()
+                    .filter(court -> Boolean.TRUE.equals(court.getIsActive()))
+                    .collect(Collectors.toUnmodifiableList());
+            this.activeByPrice = active.stream()
+                    .sorted(Comparator.comparing(CourtDTO::getPricePerHour))
+                    .collect(Collectors.toUnmodifiableList());
+            this.activeByName = active.stream()
+                    .sorted(Comparator.comparing(CourtDTO::getName))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.repository.BookingRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Componente CourtOccupancyIndex - Índice em memória da ocupação das quadras
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Mantém, para cada par (quadra, data), um bitmap de 1440 bits (um por minuto do dia)
+ * com os minutos ocupados por agendamentos ativos (PENDING ou CONFIRMED). O bitmap é
+ * carregado do banco na primeira consulta e mantido atualizado pelo BookingService,
+ * de modo que as consultas de disponibilidade não precisam acessar o JPA.
+ * Cada carga ou alteração de um dia recebe um número de versão de uma sequência global,
+ * usado nas respostas condicionais (ETag) da disponibilidade.
+ */
+@Component
+public class CourtOccupancyIndex {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    // Limite de dias mantidos em memória antes de descartar datas passadas
+    private static final int MAX_CACHED_DAYS = 20_000;
+
+    private static final long[] EMPTY = new long[WORDS_PER_DAY];
+
+    private final ConcurrentHashMap<DayKey, DayOccupancy> days = new ConcurrentHashMap<>();
+
+    // Sequência global: um dia descartado e recarregado nunca repete uma versão anterior
+    private final AtomicLong versions = new AtomicLong();
+
+    private final BookingRepository bookingRepository;
+
+    public CourtOccupancyIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Retorna o bitmap de ocupação de uma quadra em uma data, carregando-o se necessário
+     * @param courtId ID da quadra
+     * @param date Data
+     * @return Bitmap imutável com um bit por minuto do dia (bit ligado = ocupado)
+     */
+    public long[] occupancy(Long courtId, LocalDate date) {
+        return day(courtId, date).bits;
+    }
+
+    /**
+     * Versão da ocupação de um dia, carregando-o se necessário (um dia em memória não acessa
+     * o banco). Deve ser lida antes do bitmap: uma alteração concorrente só pode tornar a
+     * versão lida mais antiga que os dados, nunca mais nova.
+     * @param courtId ID da quadra
+     * @param date Data
+     * @return Versão atual do dia
+     */
+    public long version(Long courtId, LocalDate date) {
+        return day(courtId, date).version;
+    }
+
+    /**
+     * Carrega, com uma única consulta, os dias de uma quadra que ainda não estão em memória
+     * @param courtId ID da quadra
+     * @param dates Datas a carregar
+     */
+    public void preload(Long courtId, Collection<LocalDate> dates) {
+        List<LocalDate> missing = dates.stream()
+                .filter(date -> !days.containsKey(new DayKey(courtId, date)))
+                .distinct()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, List<Booking>> bookingsByDate = bookingRepository.findActiveByCourtIdAndBookingDateIn(courtId, missing)
+                .stream()
+                .collect(Collectors.groupingBy(Booking::getBookingDate));
+        // Dias carregados concorrentemente por outra requisição prevalecem
+        for (LocalDate date : missing) {
+            List<Booking> bookings = bookingsByDate.getOrDefault(date, List.of());
+            days.putIfAbsent(new DayKey(courtId, date), new DayOccupancy(versions, occupancyOf(bookings)));
+        }
+    }
+
+    /**
+     * Carrega com uma única consulta os dias ainda não carregados de várias quadras em um
+     * período (ex.: grade de disponibilidade)
+     * @param courtIds IDs das quadras
+     * @param startDate Data inicial
+     * @param endDate Data final (inclusiva)
+     */
+    public void preloadRange(Collection<Long> courtIds, LocalDate startDate, LocalDate endDate) {
+        List<DayKey> missing = new ArrayList<>();
+        for (Long courtId : courtIds) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                DayKey key = new DayKey(courtId, date);
+                if (!days.containsKey(key)) {
+                    missing.add(key);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Set<Long> missingCourts = missing.stream().map(key -> key.courtId).collect(Collectors.toSet());
+        LocalDate from = missing.stream().map(key -> key.date).min(LocalDate::compareTo).get();
+        LocalDate to = missing.stream().map(key -> key.date).max(LocalDate::compareTo).get();
+        Map<DayKey, List<Booking>> bookingsByDay = bookingRepository
+                .findActiveByCourtIdInAndBookingDateBetween(missingCourts, from, to)
+                .stream()
+                .collect(Collectors.groupingBy(booking -> new DayKey(booking.getCourt().getId(), booking.getBookingDate())));
+        // Dias carregados concorrentemente por outra requisição prevalecem
+        for (DayKey key : missing) {
+            List<Booking> bookings = bookingsByDay.getOrDefault(key, List.of());
+            days.putIfAbsent(key, new DayOccupancy(versions, occupancyOf(bookings)));
+        }
+    }
+
+    /**
+     * Verifica se um intervalo está livre na quadra e data informadas
+     * @param courtId ID da quadra
+     * @param date Data
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @return true se nenhum minuto do intervalo estiver ocupado
+     */
+    public boolean isFree(Long courtId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return isRangeFree(occupancy(courtId, date), startTime, endTime);
+    }
+
+    /**
+     * Reserva atomicamente um intervalo livre (admissão de um novo agendamento)
+     * @param courtId ID da quadra
+     * @param date Data
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @return Reserva pendente, ou null se o intervalo já estiver ocupado
+     */
+    public Claim tryClaim(Long courtId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return tryReplace(courtId, date, null, null, startTime, endTime);
+    }
+
+    /**
+     * Reserva atomicamente um novo intervalo no mesmo dia, desconsiderando o intervalo
+     * atualmente ocupado pelo próprio agendamento (alteração de horário)
+     * @param courtId ID da quadra
+     * @param date Data
+     * @param previousStart Horário de início atual (null se não houver)
+     * @param previousEnd Horário de fim atual (null se não houver)
+     * @param startTime Novo horário de início
+     * @param endTime Novo horário de fim
+     * @return Reserva pendente, ou null se o novo intervalo estiver ocupado por outro agendamento
+     */
+    public Claim tryReplace(Long courtId, LocalDate date, LocalTime previousStart, LocalTime previousEnd,
+                            LocalTime startTime, LocalTime endTime) {
+        DayOccupancy day = day(courtId, date);
+        long[] previous = previousStart != null ? mask(previousStart, previousEnd) : new long[WORDS_PER_DAY];
+        long[] requested = mask(startTime, endTime);
+        return day.claim(requested, previous) ? new Claim(day, requested, previous) : null;
+    }
+
+    /**
+     * Marca um intervalo como ocupado, caso o dia já esteja carregado em memória
+     */
+    public void occupy(Long courtId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        DayOccupancy day = days.get(new DayKey(courtId, date));
+        if (day != null) {
+            day.update(EMPTY, mask(startTime, endTime), false);
+        }
+    }
+
+    /**
+     * Libera um intervalo, caso o dia já esteja carregado em memória
+     */
+    public void release(Long courtId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        DayOccupancy day = days.get(new DayKey(courtId, date));
+        if (day != null) {
+            day.update(mask(startTime, endTime), EMPTY, false);
+        }
+    }
+
+    /**
+     * Descarta os dias carregados de uma quadra (ex.: quadra excluída). Dias com reservas ainda
+     * não resolvidas são mantidos: o commit ou rollback dessas reservas atualiza o objeto do
+     * mapa, e um dia recarregado no lugar deixaria de refleti-las.
+     * @param courtId ID da quadra
+     */
+    public void evictCourt(Long courtId) {
+        days.entrySet().removeIf(entry -> entry.getKey().courtId.equals(courtId) && entry.getValue().isIdle());
+    }
+
+    /**
+     * Monta o bitmap de ocupação de um dia a partir dos seus agendamentos
+     * @param bookings Agendamentos ativos da quadra no dia
+     * @return Bitmap com os minutos ocupados
+     */
+    public static long[] occupancyOf(Collection<Booking> bookings) {
+        long[] bits = new long[WORDS_PER_DAY];
+        for (Booking booking : bookings) {
+            int from = toStartMinute(booking.getStartTime());
+            int to = toEndMinute(booking.getEndTime());
+            if (from < to) {
+                for (int word = from >>> 6, last = (to - 1) >>> 6; word <= last; word++) {
+                    bits[word] |= rangeMask(word, from, to);
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Verifica se um intervalo está livre em um bitmap de ocupação
+     * @param bits Bitmap retornado por {@link #occupancy(Long, LocalDate)}
+     * @param startTime Horário de início
+     * @param endTime Horário de fim
+     * @return true se nenhum minuto do intervalo estiver ocupado
+     */
+    public static boolean isRangeFree(long[] bits, LocalTime startTime, LocalTime endTime) {
+        int from = toStartMinute(startTime);
+        int to = toEndMinute(endTime);
+        if (from >= to) {
+            return true;
+        }
+        for (int word = from >>> 6, last = (to - 1) >>> 6; word <= last; word++) {
+            if ((bits[word] & rangeMask(word, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Métodos privados de carga e manipulação de bits
+
+    private DayOccupancy day(Long courtId, LocalDate date) {
+        DayKey key = new DayKey(courtId, date);
+        DayOccupancy day = days.get(key);
+        if (day != null) {
+            return day;
+        }
+        if (days.size() >= MAX_CACHED_DAYS) {
+            purgePastDays();
+        }
+        // A consulta roda fora do mapa: computeIfAbsent manteria o bin do ConcurrentHashMap
+        // bloqueado (e outros dias com ele) durante a espera por conexão e a ida ao banco.
+        // Em uma carga concorrente do mesmo dia, a primeira publicada prevalece.
+        DayOccupancy loaded = load(courtId, date);
+        DayOccupancy existing = days.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private DayOccupancy load(Long courtId, LocalDate date) {
+        // A carga participa da transação do chamador, que ainda não escreveu nada neste ponto:
+        // toda admissão carrega o dia antes de persistir o agendamento
+        return new DayOccupancy(versions, occupancyOf(bookingRepository.findActiveByCourtIdAndBookingDate(courtId, date)));
+    }
+
+    private void purgePastDays() {
+        LocalDate today = LocalDate.now();
+        // Dias com reservas ainda não confirmadas nunca são descartados
+        days.entrySet().removeIf(entry -> entry.getKey().date.isBefore(today) && entry.getValue().isIdle());
+        if (days.size() >= MAX_CACHED_DAYS) {
+            days.values().removeIf(DayOccupancy::isIdle);
+        }
+    }
+
+    static int toStartMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    static int toEndMinute(LocalTime time) {
+        return (time.toSecondOfDay() + 59) / 60;
+    }
+
+    private static long[] mask(LocalTime startTime, LocalTime endTime) {
+        int from = toStartMinute(startTime);
+        int to = toEndMinute(endTime);
+        long[] mask = new long[WORDS_PER_DAY];
+        if (from < to) {
+            for (int word = from >>> 6, last = (to - 1) >>> 6; word <= last; word++) {
+                mask[word] = rangeMask(word, from, to);
+            }
+        }
+        return mask;
+    }
+
+    private static long rangeMask(int word, int from, int to) {
+        int base = word << 6;
+        int lo = Math.max(from, base) - base;
+        int hi = Math.min(to, base + Long.SIZE) - base;
+        long upper = hi == Long.SIZE ? -1L : (1L << hi) - 1;
+        return upper & (-1L << lo);
+    }
+
+    /**
+     * Reserva de intervalo feita na admissão de um agendamento. Deve ser confirmada após o
+     * commit da transação ou desfeita em caso de rollback. Só a primeira resolução tem
+     * efeito: chamadas seguintes de commit ou rollback são ignoradas.
+     */
+    public static final class Claim {
+
+        private final DayOccupancy day;
+        private final long[] requested;
+        private final long[] previous;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Claim(DayOccupancy day, long[] requested, long[] previous) {
+            this.day = day;
+            this.requested = requested;
+            this.previous = previous;
+        }
+
+        /**
+         * Efetiva a reserva, liberando o intervalo anterior que não faz parte do novo
+         */
+        public void commit() {
+            if (settled.compareAndSet(false, true)) {
+                day.update(andNot(previous, requested), EMPTY, true);
+            }
+        }
+
+        /**
+         * Desfaz a reserva, restaurando a ocupação anterior
+         */
+        public void rollback() {
+            if (settled.compareAndSet(false, true)) {
+                day.update(andNot(requested, previous), EMPTY, true);
+            }
+        }
+
+        private static long[] andNot(long[] a, long[] b) {
+            long[] result = new long[WORDS_PER_DAY];
+            for (int i = 0; i < WORDS_PER_DAY; i++) {
+                result[i] = a[i] & ~b[i];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Ocupação de um dia. O array publicado nunca é alterado: cada escrita gera uma
+     * nova cópia, permitindo leituras sem bloqueio. As escritas são serializadas por dia,
+     * de modo que quadras e datas diferentes são admitidas em paralelo. A versão é
+     * publicada depois do novo array.
+     */
+    private static final class DayOccupancy {
+
+        private final AtomicLong versions;
+        private volatile long[] bits;
+        private volatile long version;
+        private int pendingClaims;
+
+        DayOccupancy(AtomicLong versions, long[] bits) {
+            this.versions = versions;
+            this.bits = bits;
+            this.version = versions.incrementAndGet();
+        }
+
+        synchronized boolean claim(long[] requested, long[] ignored) {
+            long[] current = bits;
+            for (int i = 0; i < WORDS_PER_DAY; i++) {
+                if ((current[i] & ~ignored[i] & requested[i]) != 0) {
+                    return false;
+                }
+            }
+            long[] next = current.clone();
+            for (int i = 0; i < WORDS_PER_DAY; i++) {
+                next[i] |= requested[i];
+            }
+            bits = next;
+            version = versions.incrementAndGet();
+            pendingClaims++;
+            return true;
+        }
+
+        synchronized void update(long[] cleared, long[] occupied, boolean settlesClaim) {
+            long[] next = bits.clone();
+            for (int i = 0; i < WORDS_PER_DAY; i++) {
+                next[i] = (next[i] & ~cleared[i]) | occupied[i];
+            }
+            bits = next;
+            version = versions.incrementAndGet();
+            if (settlesClaim) {
+                pendingClaims--;
+            }
+        }
+
+        synchronized boolean isIdle() {
+            return pendingClaims == 0;
+        }
+    }
+
+    private static final class DayKey {
+
+        private final Long courtId;
+        private final LocalDate date;
+
+        DayKey(Long courtId, LocalDate date) {
+            this.courtId = courtId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DayKey)) return false;
+            DayKey other = (DayKey) o;
+            return courtId.equals(other.courtId) && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courtId, date);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.joaopedroaguiar.tennisclub.service;
 
 import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
 import com.joaopedroaguiar.tennisclub.model.Court;
 import com.joaopedroaguiar.tennisclub.repository.CourtRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,6 +19,9 @@ import java.util.stream.Collectors;
 /**
  * Serviço CourtService - Lógica de negócios para operações com quadras
  * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * As consultas do catálogo (listagens, ordenações, busca por ID) são atendidas pelo
+ * CourtCatalogCache; toda escrita invalida o cache.
  */
 @Service
 @Transactional
@@ -22,6 +30,12 @@ public class CourtService {
     @Autowired
     private CourtRepository courtRepository;
 
+    @Autowired
+    private CourtCatalogCache courtCatalog;
+
+    @Autowired
+    private CourtOccupancyIndex occupancyIndex;
+
     /**
      * Cria uma nova quadra
      * @param courtDTO Dados da quadra a ser criada
@@ -35,6 +49,7 @@ public class CourtService {
         court.setIsActive(true);
 
         Court savedCourt = courtRepository.save(court);
+        courtCatalog.invalidate();
         return new CourtDTO(savedCourt);
     }
 
@@ -44,10 +59,7 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public List<CourtDTO> getAllCourts() {
-        return courtRepository.findAll()
-                .stream()
-                .map(CourtDTO::new)
-                .collect(Collectors.toList());
+        return courtCatalog.all();
     }
 
     /**
@@ -56,10 +68,17 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public List<CourtDTO> getActiveCourts() {
-        return courtRepository.findByIsActive(true)
-                .stream()
-                .map(CourtDTO::new)
-                .collect(Collectors.toList());
+        return courtCatalog.active();
+    }
+
+    /**
+     * ETag das listagens de quadras: muda a cada alteração do catálogo. Não abre transação
+     * nem acessa o banco.
+     * @return ETag do catálogo atual
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getCatalogETag() {
+        return ETags.of("courts", courtCatalog.version());
     }
 
     /**
@@ -68,10 +87,7 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public List<CourtDTO> getActiveCourtsByPrice() {
-        return courtRepository.findActiveCourtsByPriceAsc()
-                .stream()
-                .map(CourtDTO::new)
-                .collect(Collectors.toList());
+        return courtCatalog.activeByPrice();
     }
 
     /**
@@ -80,23 +96,19 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public List<CourtDTO> getActiveCourtsOrderByName() {
-        return courtRepository.findActiveCourtsOrderByName()
-                .stream()
-                .map(CourtDTO::new)
-                .collect(Collectors.toList());
+        return courtCatalog.activeByName();
     }
 
     /**
      * Busca quadra por ID
      * @param id ID da quadra
      * @return DTO da quadra encontrada
-     * @throws RuntimeException se a quadra não for encontrada
+     * @throws ResourceNotFoundException se a quadra não for encontrada
      */
     @Transactional(readOnly = true)
     public CourtDTO getCourtById(Long id) {
-        Court court = courtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + id));
-        return new CourtDTO(court);
+        return courtCatalog.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + id));
     }
 
     /**
@@ -133,9 +145,9 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public List<CourtDTO> getCourtsByMaxPrice(BigDecimal maxPrice) {
-        return courtRepository.findActiveCourtsWithMaxPrice(maxPrice)
+        return courtCatalog.activeByPrice()
                 .stream()
-                .map(CourtDTO::new)
+                .filter(court -> court.getPricePerHour().compareTo(maxPrice) <= 0)
                 .collect(Collectors.toList());
     }
 
@@ -145,11 +157,8 @@ public class CourtService {
      */
     @Transactional(readOnly = true)
     public CourtDTO getCheapestCourt() {
-        Court court = courtRepository.findCheapestActiveCourt();
-        if (court == null) {
-            throw new RuntimeException("Nenhuma quadra ativa encontrada");
-        }
-        return new CourtDTO(court);
+        return courtCatalog.cheapestActive()
+                .orElseThrow(() -> new ResourceNotFoundException("Nenhuma quadra ativa encontrada"));
     }
 
     /**
@@ -157,11 +166,11 @@ public class CourtService {
      * @param id ID da quadra
      * @param courtDTO Dados atualizados da quadra
      * @return DTO da quadra atualizada
-     * @throws RuntimeException se a quadra não for encontrada
+     * @throws ResourceNotFoundException se a quadra não for encontrada
      */
     public CourtDTO updateCourt(Long id, CourtDTO courtDTO) {
         Court court = courtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + id));
 
         // Atualiza os dados
         court.setName(courtDTO.getName());
@@ -172,6 +181,7 @@ public class CourtService {
         }
 
         Court updatedCourt = courtRepository.save(court);
+        courtCatalog.invalidate();
         return new CourtDTO(updatedCourt);
     }
 
@@ -180,27 +190,36 @@ public class CourtService {
      * @param id ID da quadra
      * @param isActive Status ativo
      * @return DTO da quadra atualizada
-     * @throws RuntimeException se a quadra não for encontrada
+     * @throws ResourceNotFoundException se a quadra não for encontrada
      */
     public CourtDTO toggleCourtStatus(Long id, Boolean isActive) {
+        if (isActive == null) {
+            throw new ValidationException("Campo isActive é obrigatório");
+        }
         Court court = courtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + id));
 
         court.setIsActive(isActive);
         Court updatedCourt = courtRepository.save(court);
+        courtCatalog.invalidate();
         return new CourtDTO(updatedCourt);
     }
 
     /**
      * Exclui uma quadra
      * @param id ID da quadra
-     * @throws RuntimeException se a quadra não for encontrada
+     * @throws ResourceNotFoundException se a quadra não for encontrada
      */
     public void deleteCourt(Long id) {
         Court court = courtRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Quadra não encontrada com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + id));
 
         courtRepository.delete(court);
+        courtCatalog.invalidate();
+        // Os agendamentos da quadra são excluídos em cascata. O índice só é descartado após o
+        // commit: antes disso uma requisição recarregaria o dia a partir das linhas ainda não
+        // excluídas, e um rollback deixaria a quadra existente sem o índice
+        afterCommit(() -> occupancyIndex.evictCourt(id));
     }
 
     /**
@@ -223,5 +242,21 @@ public class CourtService {
                 .map(CourtDTO::new)
                 .collect(Collectors.toList());
     }
-}
 
+    /**
+     * Executa a ação após o commit da transação corrente (ou imediatamente, se não houver
+     * transação ativa)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
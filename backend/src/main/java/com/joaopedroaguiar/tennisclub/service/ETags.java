@@ -0,0 +1,33 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Utilitário ETags - Valores de ETag a partir de versões em memória
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * As versões (catálogo de quadras, ocupação de um dia) recomeçam a cada inicialização; o
+ * identificador da instância, incluído em todo ETag, impede que um ETag de uma execução
+ * anterior coincida com uma versão da execução atual.
+ */
+public final class ETags {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(Character.MAX_RADIX * Character.MAX_RADIX), 36);
+
+    private ETags() {
+    }
+
+    /**
+     * @param resource Tipo do recurso (ex.: "courts")
+     * @param versions Versões das quais o conteúdo depende
+     * @return ETag forte, entre aspas
+     */
+    public static String of(String resource, long... versions) {
+        StringBuilder etag = new StringBuilder(48).append('"').append(resource).append('-').append(EPOCH);
+        for (long version : versions) {
+            etag.append('-').append(Long.toString(version, 36));
+        }
+        return etag.append('"').toString();
+    }
+}
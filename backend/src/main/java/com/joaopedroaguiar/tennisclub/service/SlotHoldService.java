@@ -0,0 +1,289 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.dto.SlotHoldDTO;
+import com.joaopedroaguiar.tennisclub.event.SlotHoldEvent;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço SlotHoldService - Reservas temporárias de horário (leases) antes do checkout
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Uma reserva temporária ocupa o horário diretamente no CourtOccupancyIndex, sem acessar o
+ * banco: a disponibilidade e a admissão de novos agendamentos já a consideram. A reserva só
+ * vira um Booking no checkout; se não for convertida nem liberada, expira sozinha.
+ *
+ * As expirações são controladas por uma roda de temporização (um tick por segundo): cada
+ * reserva entra na posição do seu tick de expiração e cada tick visita apenas uma posição.
+ * Reservas liberadas ou convertidas antes do prazo são descartadas quando a posição é visitada.
+ */
+@Service
+public class SlotHoldService {
+
+    private static final long TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 1024;
+    private static final int MAX_HOLDS = 10_000;
+
+    private final CourtOccupancyIndex occupancyIndex;
+    private final CourtCatalogCache courtCatalog;
+    private final BookingService bookingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final ConcurrentHashMap<String, Hold> holds = new ConcurrentHashMap<>();
+    private final AtomicInteger holdCount = new AtomicInteger();
+    private final List<Queue<Hold>> wheel;
+    private long nextTick;
+
+    public SlotHoldService(CourtOccupancyIndex occupancyIndex, CourtCatalogCache courtCatalog, BookingService bookingService,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${tennisclub.bookings.holds.ttl:10m}") Duration ttl) {
+        if (ttl.toMillis() < TICK_MS) {
+            throw new IllegalArgumentException("A duração da reserva temporária deve ser de pelo menos 1 segundo");
+        }
+        this.occupancyIndex = occupancyIndex;
+        this.courtCatalog = courtCatalog;
+        this.bookingService = bookingService;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.nextTick = System.currentTimeMillis() / TICK_MS;
+    }
+
+    /**
+     * Reserva temporariamente um horário livre
+     * @param request Quadra, usuário, data e horário
+     * @return Reserva criada, com o identificador e o prazo de expiração
+     * @throws ResourceNotFoundException se a quadra não for encontrada
+     * @throws ConflictException se o horário já estiver ocupado
+     * @throws ServiceUnavailableException se o limite de reservas temporárias for atingido
+     */
+    public SlotHoldDTO hold(SlotHoldDTO request) {
+        return hold(request, ttl);
+    }
+
+    /**
+     * Reserva temporariamente um horário livre com prazo próprio (ofertas da lista de espera)
+     * @param request Quadra, usuário, data e horário
+     * @param ttl Duração da reserva
+     * @return Reserva criada
+     * @throws ConflictException se o horário já estiver ocupado
+     */
+    SlotHoldDTO hold(SlotHoldDTO request, Duration ttl) {
+        CourtDTO court = courtCatalog.findById(request.getCourtId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + request.getCourtId()));
+        BookingRules.validateBookingTime(request.getBookingDate(), request.getStartTime(), request.getEndTime(), LocalDate.now());
+        if (holdCount.incrementAndGet() > MAX_HOLDS) {
+            holdCount.decrementAndGet();
+            throw new ServiceUnavailableException("Limite de reservas temporárias atingido");
+        }
+        CourtOccupancyIndex.Claim claim = occupancyIndex.tryClaim(court.getId(), request.getBookingDate(),
+                request.getStartTime(), request.getEndTime());
+        if (claim == null) {
+            holdCount.decrementAndGet();
+            throw new ConflictException("Já existe um agendamento para este horário na quadra " + court.getName());
+        }
+        Hold hold = new Hold(UUID.randomUUID().toString(), court.getId(), request.getUserId(), request.getBookingDate(),
+                request.getStartTime(), request.getEndTime(), System.currentTimeMillis() + ttl.toMillis(), claim);
+        holds.put(hold.id, hold);
+        wheel.get((int) (hold.expiryTick() & (WHEEL_SIZE - 1))).add(hold);
+        publish(SlotHoldEvent.Type.HELD, hold);
+        return hold.toDTO();
+    }
+
+    /**
+     * Busca uma reserva temporária ativa
+     * @param holdId Identificador da reserva
+     * @return Reserva
+     * @throws ResourceNotFoundException se a reserva não existir ou já tiver expirado
+     */
+    public SlotHoldDTO getHold(String holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || hold.isExpired(System.currentTimeMillis())) {
+            throw new ResourceNotFoundException("Reserva temporária não encontrada ou expirada: " + holdId);
+        }
+        return hold.toDTO();
+    }
+
+    /**
+     * Converte a reserva em agendamento confirmado. Se o checkout falhar, a reserva é liberada.
+     * @param holdId Identificador da reserva
+     * @param notes Observações do agendamento
+     * @return Agendamento criado
+     * @throws ResourceNotFoundException se a reserva não existir ou já tiver expirado
+     */
+    public BookingDTO checkout(String holdId, String notes) {
+        Hold hold = take(holdId);
+        try {
+            return bookingService.createBookingFromHold(hold, notes);
+        } catch (RuntimeException e) {
+            // Se a reserva chegou a ser vinculada à transação, o rollback já a desfez e esta
+            // chamada é ignorada; se a transação nem começou (ex.: pool esgotado), a desfaz aqui
+            hold.claim.rollback();
+            publish(SlotHoldEvent.Type.RELEASED, hold);
+            throw e;
+        }
+    }
+
+    /**
+     * Libera uma reserva temporária antes do prazo
+     * @param holdId Identificador da reserva
+     * @throws ResourceNotFoundException se a reserva não existir ou já tiver expirado
+     */
+    public void release(String holdId) {
+        Hold hold = take(holdId);
+        hold.claim.rollback();
+        publish(SlotHoldEvent.Type.RELEASED, hold);
+    }
+
+    /**
+     * @return Número de reservas temporárias ativas
+     */
+    public int holdCount() {
+        return holdCount.get();
+    }
+
+    /**
+     * Avança a roda de temporização até o instante atual, expirando as reservas vencidas
+     */
+    @Scheduled(fixedRate = TICK_MS)
+    public void expireHolds() {
+        advance(System.currentTimeMillis());
+    }
+
+    // Métodos privados da roda de temporização
+
+    private synchronized void advance(long now) {
+        long currentTick = now / TICK_MS;
+        // Após uma pausa maior que uma volta, uma volta completa já visita todas as posições
+        for (long tick = Math.max(nextTick, currentTick - WHEEL_SIZE + 1); tick <= currentTick; tick++) {
+            Iterator<Hold> iterator = wheel.get((int) (tick & (WHEEL_SIZE - 1))).iterator();
+            while (iterator.hasNext()) {
+                Hold hold = iterator.next();
+                // Reservas de voltas seguintes permanecem na posição
+                if (hold.isExpired(now)) {
+                    iterator.remove();
+                    expire(hold);
+                } else if (!holds.containsKey(hold.id)) {
+                    iterator.remove();
+                }
+            }
+        }
+        nextTick = currentTick + 1;
+    }
+
+    private void expire(Hold hold) {
+        if (holds.remove(hold.id, hold)) {
+            holdCount.decrementAndGet();
+            hold.claim.rollback();
+            publish(SlotHoldEvent.Type.RELEASED, hold);
+        }
+    }
+
+    private Hold take(String holdId) {
+        Hold hold = holds.remove(holdId);
+        if (hold == null) {
+            throw new ResourceNotFoundException("Reserva temporária não encontrada ou expirada: " + holdId);
+        }
+        holdCount.decrementAndGet();
+        if (hold.isExpired(System.currentTimeMillis())) {
+            // Vencida entre dois ticks
+            hold.claim.rollback();
+            publish(SlotHoldEvent.Type.RELEASED, hold);
+            throw new ResourceNotFoundException("Reserva temporária não encontrada ou expirada: " + holdId);
+        }
+        return hold;
+    }
+
+    private void publish(SlotHoldEvent.Type type, Hold hold) {
+        eventPublisher.publishEvent(new SlotHoldEvent(type, hold.courtId, hold.bookingDate, hold.startTime, hold.endTime));
+    }
+
+    /**
+     * Reserva temporária ativa: o intervalo ocupado no índice e o prazo de expiração
+     */
+    public static final class Hold {
+
+        private final String id;
+        private final Long courtId;
+        private final Long userId;
+        private final LocalDate bookingDate;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final long expiresAt;
+        private final CourtOccupancyIndex.Claim claim;
+
+        private Hold(String id, Long courtId, Long userId, LocalDate bookingDate, LocalTime startTime, LocalTime endTime,
+                     long expiresAt, CourtOccupancyIndex.Claim claim) {
+            this.id = id;
+            this.courtId = courtId;
+            this.userId = userId;
+            this.bookingDate = bookingDate;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.expiresAt = expiresAt;
+            this.claim = claim;
+        }
+
+        public Long getCourtId() {
+            return courtId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public LocalDate getBookingDate() {
+            return bookingDate;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        CourtOccupancyIndex.Claim getClaim() {
+            return claim;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        long expiryTick() {
+            return (expiresAt + TICK_MS - 1) / TICK_MS;
+        }
+
+        SlotHoldDTO toDTO() {
+            return new SlotHoldDTO(id, courtId, userId, bookingDate, startTime, endTime,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()));
+        }
+    }
+}
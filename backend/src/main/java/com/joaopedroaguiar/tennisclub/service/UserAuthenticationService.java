@@ -0,0 +1,160 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.model.User;
+import com.joaopedroaguiar.tennisclub.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço UserAuthenticationService - Carga dos usuários para autenticação
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Mantém um cache limitado e de curta duração dos dados de autenticação por email, para que
+ * requisições autenticadas não consultem a tabela users a cada chamada. O cache guarda uma
+ * cópia (email, hash da senha, perfil e status), não a entidade. O UserService
+ * invalida o email ao alterar, ativar/desativar ou excluir um usuário.
+ * Também regrava o hash da senha no login quando o PasswordEncoder indica que ele está
+ * desatualizado (hash sem prefixo ou com custo menor que o configurado).
+ */
+@Service
+public class UserAuthenticationService implements UserDetailsService, UserDetailsPasswordService {
+
+    // Limite de usuários em cache; ao ser atingido, o cache é esvaziado
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, CachedUser> users = new ConcurrentHashMap<>();
+
+    // Incrementada a cada invalidação: cargas concorrentes não são mantidas em cache
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserAuthenticationService(UserRepository userRepository, MeterRegistry meterRegistry,
+                                     @Value("${tennisclub.security.user-cache.ttl:60s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("tennisclub.security.user.cache.requests")
+                .description("Leituras do cache de usuários da autenticação")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tennisclub.security.user.cache.requests")
+                .description("Leituras do cache de usuários da autenticação")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca os dados de autenticação pelo email, no cache ou no banco
+     * (sem transação própria: um acerto no cache não obtém conexão)
+     * @param email Email do usuário
+     * @return Cópia dos dados de autenticação (o Spring Security apaga a senha do principal
+     *         após a autenticação, por isso a instância em cache nunca é devolvida)
+     * @throws UsernameNotFoundException se o usuário não for encontrado
+     */
+    @Override
+    public UserDetails loadUserByUsername(String email) {
+        CachedUser cached = users.get(email);
+        if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+            hits.increment();
+            return copy(cached.details);
+        }
+        misses.increment();
+        long loadedGeneration = generation.get();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + email));
+        UserDetails details = snapshot(user);
+        cache(email, details, loadedGeneration);
+        return copy(details);
+    }
+
+    /**
+     * Regrava o hash da senha com o codificador atual (chamado após um login bem-sucedido)
+     * @param userDetails Usuário autenticado
+     * @param newPassword Novo hash da senha
+     * @return Dados de autenticação com o novo hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        invalidate(user.getEmail());
+        return snapshot(user);
+    }
+
+    /**
+     * Remove um email do cache imediatamente e novamente ao fim da transação corrente, para
+     * que nenhuma leitura concorrente mantenha em cache dados anteriores ao commit
+     * @param email Email do usuário
+     */
+    public void invalidate(String email) {
+        evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(email);
+                }
+            });
+        }
+    }
+
+    // Métodos privados do cache
+
+    private void cache(String email, UserDetails details, long loadedGeneration) {
+        if (users.size() >= MAX_CACHED_USERS) {
+            users.clear();
+        }
+        users.put(email, new CachedUser(details, System.nanoTime() + ttlNanos));
+        // Uma invalidação durante a consulta pode ter sido anterior ao put: descarta a carga
+        if (generation.get() != loadedGeneration) {
+            users.remove(email);
+        }
+    }
+
+    private void evict(String email) {
+        generation.incrementAndGet();
+        users.remove(email);
+    }
+
+    private static UserDetails snapshot(User user) {
+        return org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                .password(user.getPassword())
+                .authorities(user.getAuthorities())
+                .disabled(!user.isEnabled())
+                .build();
+    }
+
+    private static UserDetails copy(UserDetails details) {
+        return org.springframework.security.core.userdetails.User.withUserDetails(details).build();
+    }
+
+    private static final class CachedUser {
+
+        private final UserDetails details;
+        private final long expiresAt;
+
+        CachedUser(UserDetails details, long expiresAt) {
+            this.details = details;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
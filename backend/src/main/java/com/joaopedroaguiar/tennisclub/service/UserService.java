@@ -2,6 +2,10 @@ package com.joaopedroaguiar.tennisclub.service;
 
 import com.joaopedroaguiar.tennisclub.dto.CreateUserDTO;
 import com.joaopedroaguiar.tennisclub.dto.UserDTO;
+import com.joaopedroaguiar.tennisclub.exception.BusinessException;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
 import com.joaopedroaguiar.tennisclub.model.User;
 import com.joaopedroaguiar.tennisclub.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,16 +31,19 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserAuthenticationService userAuthenticationService;
+
     /**
      * Cria um novo usuário
      * @param createUserDTO Dados do usuário a ser criado
      * @return DTO do usuário criado
-     * @throws RuntimeException se o email já estiver em uso
+     * @throws ConflictException se o email já estiver em uso
      */
     public UserDTO createUser(CreateUserDTO createUserDTO) {
         // Verifica se o email já existe
         if (userRepository.existsByEmail(createUserDTO.getEmail())) {
-            throw new RuntimeException("Email já está em uso: " + createUserDTO.getEmail());
+            throw new ConflictException("Email já está em uso: " + createUserDTO.getEmail());
         }
 
         // Cria o usuário
@@ -67,12 +74,12 @@ public class UserService {
      * Busca usuário por ID
      * @param id ID do usuário
      * @return DTO do usuário encontrado
-     * @throws RuntimeException se o usuário não for encontrado
+     * @throws ResourceNotFoundException se o usuário não for encontrado
      */
     @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
         return new UserDTO(user);
     }
 
@@ -80,12 +87,12 @@ public class UserService {
      * Busca usuário por email
      * @param email Email do usuário
      * @return DTO do usuário encontrado
-     * @throws RuntimeException se o usuário não for encontrado
+     * @throws ResourceNotFoundException se o usuário não for encontrado
      */
     @Transactional(readOnly = true)
     public UserDTO getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com email: " + email));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com email: " + email));
         return new UserDTO(user);
     }
 
@@ -132,19 +139,20 @@ public class UserService {
      * @param id ID do usuário
      * @param userDTO Dados atualizados do usuário
      * @return DTO do usuário atualizado
-     * @throws RuntimeException se o usuário não for encontrado ou email já estiver em uso
+     * @throws BusinessException se o usuário não for encontrado ou email já estiver em uso
      */
     public UserDTO updateUser(Long id, UserDTO userDTO) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
 
         // Verifica se o email já está em uso por outro usuário
         Optional<User> existingUser = userRepository.findByEmail(userDTO.getEmail());
         if (existingUser.isPresent() && !existingUser.get().getId().equals(id)) {
-            throw new RuntimeException("Email já está em uso por outro usuário: " + userDTO.getEmail());
+            throw new ConflictException("Email já está em uso por outro usuário: " + userDTO.getEmail());
         }
 
-        // Atualiza os dados
+        // Atualiza os dados (o email anterior deixa de autenticar)
+        userAuthenticationService.invalidate(user.getEmail());
         user.setName(userDTO.getName());
         user.setEmail(userDTO.getEmail());
         if (userDTO.getRole() != null) {
@@ -155,6 +163,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userAuthenticationService.invalidate(updatedUser.getEmail());
         return new UserDTO(updatedUser);
     }
 
@@ -163,27 +172,32 @@ public class UserService {
      * @param id ID do usuário
      * @param isActive Status ativo
      * @return DTO do usuário atualizado
-     * @throws RuntimeException se o usuário não for encontrado
+     * @throws ResourceNotFoundException se o usuário não for encontrado
      */
     public UserDTO toggleUserStatus(Long id, Boolean isActive) {
+        if (isActive == null) {
+            throw new ValidationException("Campo isActive é obrigatório");
+        }
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
 
         user.setIsActive(isActive);
         User updatedUser = userRepository.save(user);
+        userAuthenticationService.invalidate(updatedUser.getEmail());
         return new UserDTO(updatedUser);
     }
 
     /**
      * Exclui um usuário
      * @param id ID do usuário
-     * @throws RuntimeException se o usuário não for encontrado
+     * @throws ResourceNotFoundException se o usuário não for encontrado
      */
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
 
         userRepository.delete(user);
+        userAuthenticationService.invalidate(user.getEmail());
     }
 
     /**
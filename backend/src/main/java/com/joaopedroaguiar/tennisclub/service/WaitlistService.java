@@ -0,0 +1,427 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.CourtDTO;
+import com.joaopedroaguiar.tennisclub.dto.SlotHoldDTO;
+import com.joaopedroaguiar.tennisclub.dto.WaitlistEntryDTO;
+import com.joaopedroaguiar.tennisclub.event.BookingChangedEvent;
+import com.joaopedroaguiar.tennisclub.event.SlotHoldEvent;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import com.joaopedroaguiar.tennisclub.exception.ResourceNotFoundException;
+import com.joaopedroaguiar.tennisclub.exception.ServiceUnavailableException;
+import com.joaopedroaguiar.tennisclub.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço WaitlistService - Lista de espera dos horários ocupados
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada horário (quadra, data, início e fim) tem uma fila FIFO sem locks
+ * (ConcurrentLinkedQueue): entrar e ser atendido custam O(1). A saída da fila é preguiçosa:
+ * a inscrição é apenas marcada e descartada quando chega à frente.
+ *
+ * Quando um agendamento deixa de ocupar um horário (cancelamento, exclusão, alteração) ou
+ * uma reserva temporária é liberada, os ouvintes apenas sinalizam as filas afetadas; as
+ * ofertas são feitas no TaskExecutor da aplicação, fora da transação que liberou o horário.
+ * Cada fila tem no máximo uma tarefa de despacho por vez. A oferta é uma reserva temporária
+ * do SlotHoldService em nome do primeiro da fila, com prazo próprio; se não for concluída,
+ * a liberação da reserva oferece o horário ao próximo.
+ */
+@Service
+public class WaitlistService {
+
+    private static final int MAX_WAITERS_PER_SLOT = 10_000;
+    private static final int MAX_WAITERS = 100_000;
+
+    private final CourtOccupancyIndex occupancyIndex;
+    private final CourtCatalogCache courtCatalog;
+    private final SlotHoldService slotHoldService;
+    private final TaskExecutor taskExecutor;
+    private final Duration offerTtl;
+    private final ConcurrentHashMap<Day, ConcurrentHashMap<Slot, SlotQueue>> days = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Waiter> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final Counter offers;
+
+    public WaitlistService(CourtOccupancyIndex occupancyIndex, CourtCatalogCache courtCatalog, SlotHoldService slotHoldService,
+                           @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor, MeterRegistry meterRegistry,
+                           @Value("${tennisclub.bookings.waitlist.offer-ttl:5m}") Duration offerTtl) {
+        if (offerTtl.toMillis() < 1_000) {
+            throw new IllegalArgumentException("A duração da oferta da lista de espera deve ser de pelo menos 1 segundo");
+        }
+        this.occupancyIndex = occupancyIndex;
+        this.courtCatalog = courtCatalog;
+        this.slotHoldService = slotHoldService;
+        this.taskExecutor = taskExecutor;
+        this.offerTtl = offerTtl;
+        this.offers = Counter.builder("tennisclub.waitlist.offers")
+                .description("Horários liberados oferecidos à lista de espera")
+                .register(meterRegistry);
+        Gauge.builder("tennisclub.waitlist.waiters", waiterCount, AtomicInteger::get)
+                .description("Inscrições aguardando na lista de espera")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inscreve o usuário na lista de espera de um horário ocupado
+     * @param request Quadra, usuário, data e horário
+     * @return Inscrição criada, com a posição na fila
+     * @throws ResourceNotFoundException se a quadra não for encontrada
+     * @throws ConflictException se o horário estiver livre ou o usuário já estiver na fila
+     * @throws ServiceUnavailableException se o limite da lista de espera for atingido
+     */
+    public WaitlistEntryDTO join(WaitlistEntryDTO request) {
+        CourtDTO court = courtCatalog.findById(request.getCourtId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quadra não encontrada com ID: " + request.getCourtId()));
+        BookingRules.validateBookingTime(request.getBookingDate(), request.getStartTime(), request.getEndTime(), LocalDate.now());
+        if (occupancyIndex.isFree(court.getId(), request.getBookingDate(), request.getStartTime(), request.getEndTime())) {
+            throw new ConflictException("Horário disponível na quadra " + court.getName() + ": faça o agendamento diretamente");
+        }
+        if (waiterCount.incrementAndGet() > MAX_WAITERS) {
+            waiterCount.decrementAndGet();
+            throw new ServiceUnavailableException("Limite da lista de espera atingido");
+        }
+
+        Day day = new Day(court.getId(), request.getBookingDate());
+        Slot slot = new Slot(request.getStartTime(), request.getEndTime());
+        Waiter waiter = new Waiter(UUID.randomUUID().toString(), day, slot, request.getUserId());
+        RuntimeException[] rejection = new RuntimeException[1];
+        // O compute serializa a inscrição com a remoção da fila vazia pelo despacho
+        SlotQueue queue = days.computeIfAbsent(day, key -> new ConcurrentHashMap<>()).compute(slot, (key, existing) -> {
+            SlotQueue q = existing != null ? existing : new SlotQueue(slot);
+            if (q.size.get() >= MAX_WAITERS_PER_SLOT) {
+                rejection[0] = new ServiceUnavailableException("Limite da lista de espera deste horário atingido");
+            } else if (q.members.putIfAbsent(waiter.userId, waiter) != null) {
+                rejection[0] = new ConflictException("Usuário já está na lista de espera deste horário");
+            } else {
+                waiter.ticket = q.enqueued.getAndIncrement();
+                q.size.incrementAndGet();
+                q.waiters.add(waiter);
+            }
+            return q.waiters.isEmpty() ? null : q;
+        });
+        if (rejection[0] != null) {
+            waiterCount.decrementAndGet();
+            throw rejection[0];
+        }
+        entries.put(waiter.id, waiter);
+
+        // O horário pode ter sido liberado entre a verificação e a inscrição
+        if (occupancyIndex.isFree(day.courtId, day.date, slot.startTime, slot.endTime)) {
+            signal(day, queue);
+        }
+        return waiter.toDTO(queue);
+    }
+
+    /**
+     * Busca uma inscrição na lista de espera (aguardando ou com oferta)
+     * @param entryId Identificador da inscrição
+     * @return Inscrição, com a posição na fila ou a reserva oferecida
+     * @throws ResourceNotFoundException se a inscrição não existir
+     */
+    public WaitlistEntryDTO getEntry(String entryId) {
+        Waiter waiter = entries.get(entryId);
+        if (waiter == null) {
+            throw new ResourceNotFoundException("Inscrição na lista de espera não encontrada: " + entryId);
+        }
+        Map<Slot, SlotQueue> slots = days.get(waiter.day);
+        return waiter.toDTO(slots != null ? slots.get(waiter.slot) : null);
+    }
+
+    /**
+     * Remove a inscrição da lista de espera. Uma reserva já oferecida não é liberada.
+     * @param entryId Identificador da inscrição
+     * @throws ResourceNotFoundException se a inscrição não existir
+     */
+    public void leave(String entryId) {
+        Waiter waiter = entries.remove(entryId);
+        if (waiter == null) {
+            throw new ResourceNotFoundException("Inscrição na lista de espera não encontrada: " + entryId);
+        }
+        Map<Slot, SlotQueue> slots = days.get(waiter.day);
+        SlotQueue queue = slots != null ? slots.get(waiter.slot) : null;
+        if (queue != null) {
+            retire(queue, waiter);
+        }
+    }
+
+    /**
+     * Sinaliza as filas dos horários liberados por uma alteração confirmada de agendamento
+     * @param event Alteração de agendamento (já refletida no índice de ocupação)
+     */
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingChangedEvent.Snapshot before = event.getBefore();
+        if (days.isEmpty() || before == null || !before.isActive()) {
+            return;
+        }
+        BookingChangedEvent.Snapshot after = event.getAfter();
+        if (after != null && after.isActive() && after.getBookingDate().equals(before.getBookingDate())
+                && after.getStartTime().equals(before.getStartTime()) && after.getEndTime().equals(before.getEndTime())) {
+            return;
+        }
+        signalOverlapping(new Day(event.getCourtId(), before.getBookingDate()), before.getStartTime(), before.getEndTime());
+    }
+
+    /**
+     * Sinaliza as filas dos horários liberados por uma reserva temporária liberada ou expirada
+     * (inclusive ofertas não concluídas)
+     * @param event Reserva temporária (já refletida no índice de ocupação)
+     */
+    @EventListener
+    public void onSlotHoldChanged(SlotHoldEvent event) {
+        if (days.isEmpty() || event.getType() != SlotHoldEvent.Type.RELEASED) {
+            return;
+        }
+        signalOverlapping(new Day(event.getCourtId(), event.getBookingDate()), event.getStartTime(), event.getEndTime());
+    }
+
+    /**
+     * @return Número de inscrições aguardando
+     */
+    public int waiterCount() {
+        return waiterCount.get();
+    }
+
+    /**
+     * Descarta as filas de datas passadas e as inscrições com oferta já vencida
+     */
+    @Scheduled(fixedDelayString = "${tennisclub.bookings.waitlist.sweep-interval:PT1M}")
+    public void purgeExpired() {
+        LocalDate today = LocalDate.now();
+        days.forEach((day, slots) -> {
+            if (day.date.isBefore(today) && days.remove(day, slots)) {
+                slots.values().forEach(queue -> queue.waiters.forEach(waiter -> drop(queue, waiter)));
+            }
+        });
+        LocalDateTime now = LocalDateTime.now();
+        entries.values().removeIf(waiter -> waiter.day.date.isBefore(today)
+                || waiter.offerExpiresAt != null && waiter.offerExpiresAt.isBefore(now));
+    }
+
+    // Métodos privados do despacho
+
+    private void signalOverlapping(Day day, LocalTime startTime, LocalTime endTime) {
+        Map<Slot, SlotQueue> slots = days.get(day);
+        if (slots == null) {
+            return;
+        }
+        slots.forEach((slot, queue) -> {
+            if (BookingRules.overlaps(slot.startTime, slot.endTime, startTime, endTime)) {
+                signal(day, queue);
+            }
+        });
+    }
+
+    /**
+     * Agenda o despacho da fila; sinais recebidos durante um despacho são atendidos pela
+     * mesma tarefa, que repete a tentativa antes de terminar
+     */
+    private void signal(Day day, SlotQueue queue) {
+        if (queue.signals.getAndIncrement() == 0) {
+            taskExecutor.execute(() -> dispatch(day, queue));
+        }
+    }
+
+    private void dispatch(Day day, SlotQueue queue) {
+        int pending = queue.signals.get();
+        do {
+            offerNext(day, queue);
+            pending = queue.signals.addAndGet(-pending);
+        } while (pending != 0);
+        // Fila vazia: removida sob o mesmo lock das inscrições
+        Map<Slot, SlotQueue> slots = days.get(day);
+        if (slots != null && queue.waiters.isEmpty()) {
+            slots.computeIfPresent(queue.slot, (key, q) -> q == queue && q.waiters.isEmpty() ? null : q);
+        }
+    }
+
+    /**
+     * Oferece o horário ao primeiro da fila. Somente a tarefa de despacho retira elementos da
+     * fila, por isso o primeiro só é retirado após a reserva ser obtida
+     */
+    private void offerNext(Day day, SlotQueue queue) {
+        Waiter waiter;
+        while ((waiter = queue.waiters.peek()) != null) {
+            if (waiter.left.get()) {
+                poll(queue);
+                continue;
+            }
+            SlotHoldDTO hold;
+            try {
+                hold = slotHoldService.hold(new SlotHoldDTO(null, day.courtId, waiter.userId, day.date,
+                        waiter.slot.startTime, waiter.slot.endTime, null), offerTtl);
+            } catch (ResourceNotFoundException | ValidationException e) {
+                // Quadra removida ou horário já passado: a fila não será mais atendida
+                Waiter dropped;
+                while ((dropped = poll(queue)) != null) {
+                    drop(queue, dropped);
+                }
+                return;
+            } catch (RuntimeException e) {
+                // Horário ainda ocupado (ConflictException) ou sem capacidade: aguarda a próxima liberação
+                return;
+            }
+            waiter.holdId = hold.getHoldId();
+            waiter.offerExpiresAt = hold.getExpiresAt();
+            retire(queue, waiter);
+            poll(queue);
+            offers.increment();
+            return;
+        }
+    }
+
+    private Waiter poll(SlotQueue queue) {
+        Waiter waiter = queue.waiters.poll();
+        if (waiter != null) {
+            queue.dequeued.incrementAndGet();
+            queue.size.decrementAndGet();
+        }
+        return waiter;
+    }
+
+    /**
+     * Encerra a espera da inscrição (saída, oferta ou descarte). A remoção física da fila
+     * fica para o despacho, quando a inscrição chega à frente
+     */
+    private void retire(SlotQueue queue, Waiter waiter) {
+        if (waiter.left.compareAndSet(false, true)) {
+            queue.members.remove(waiter.userId, waiter);
+            waiterCount.decrementAndGet();
+        }
+    }
+
+    private void drop(SlotQueue queue, Waiter waiter) {
+        retire(queue, waiter);
+        entries.remove(waiter.id, waiter);
+    }
+
+    /**
+     * Inscrição na fila de um horário
+     */
+    private static final class Waiter {
+
+        private final String id;
+        private final Day day;
+        private final Slot slot;
+        private final Long userId;
+        private final AtomicBoolean left = new AtomicBoolean();
+        private long ticket;
+        private volatile String holdId;
+        private volatile LocalDateTime offerExpiresAt;
+
+        Waiter(String id, Day day, Slot slot, Long userId) {
+            this.id = id;
+            this.day = day;
+            this.slot = slot;
+            this.userId = userId;
+        }
+
+        WaitlistEntryDTO toDTO(SlotQueue queue) {
+            String offeredHold = holdId;
+            if (offeredHold != null) {
+                return new WaitlistEntryDTO(id, day.courtId, userId, day.date, slot.startTime, slot.endTime,
+                        WaitlistEntryDTO.Status.OFFERED, null, offeredHold, offerExpiresAt);
+            }
+            // Posição aproximada: inscrições que saíram da fila só são descontadas ao chegar à frente
+            Long position = queue != null ? Math.max(1, ticket - queue.dequeued.get() + 1) : null;
+            return new WaitlistEntryDTO(id, day.courtId, userId, day.date, slot.startTime, slot.endTime,
+                    WaitlistEntryDTO.Status.WAITING, position, null, null);
+        }
+    }
+
+    /**
+     * Fila FIFO de um horário. size conta as inscrições ainda presentes na fila (inclusive as
+     * já encerradas, até serem retiradas); members, as que aguardam, uma por usuário
+     */
+    private static final class SlotQueue {
+
+        private final Slot slot;
+        private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+        private final ConcurrentHashMap<Long, Waiter> members = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong enqueued = new AtomicLong();
+        private final AtomicLong dequeued = new AtomicLong();
+        private final AtomicInteger signals = new AtomicInteger();
+
+        SlotQueue(Slot slot) {
+            this.slot = slot;
+        }
+    }
+
+    private static final class Day {
+
+        private final Long courtId;
+        private final LocalDate date;
+
+        Day(Long courtId, LocalDate date) {
+            this.courtId = courtId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Day)) {
+                return false;
+            }
+            Day other = (Day) o;
+            return courtId.equals(other.courtId) && date.equals(other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courtId, date);
+        }
+    }
+
+    private static final class Slot {
+
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+
+        Slot(LocalTime startTime, LocalTime endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Slot)) {
+                return false;
+            }
+            Slot other = (Slot) o;
+            return startTime.equals(other.startTime) && endTime.equals(other.endTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(startTime, endTime);
+        }
+    }
+}
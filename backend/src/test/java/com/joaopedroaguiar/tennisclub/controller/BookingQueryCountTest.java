@@ -0,0 +1,126 @@
+package com.joaopedroaguiar.tennisclub.controller;
+
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.model.Booking;
+import com.joaopedroaguiar.tennisclub.service.BookingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Teste do número de comandos SQL das listagens de agendamentos (sem N+1)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada listagem é medida com as estatísticas do Hibernate antes e depois de importar 10 mil
+ * agendamentos de todas as quadras e usuários: o número de comandos preparados deve ser o
+ * mesmo, pois quadra e usuário são carregados no mesmo SELECT (entity graph).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking-query-count",
+        "spring.jpa.defer-datasource-initialization=true",
+        "tennisclub.bookings.maintenance.enabled=false"
+})
+@AutoConfigureMockMvc
+class BookingQueryCountTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate FUTURE_DATE = TODAY.plusDays(40);
+
+    // 10 mil agendamentos: hoje e 124 dias a partir de D+10 (após os dias do data.sql),
+    // com os 16 horários de 1 hora das 5 quadras em cada dia
+    private static final int COURTS = 5;
+    private static final int SLOTS_PER_DAY = 16;
+    private static final int SEEDED_BOOKINGS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bookingListingsIssueAConstantNumberOfStatements() throws Exception {
+        List<String> endpoints = List.of(
+                "/bookings",
+                "/bookings/page",
+                "/bookings/user/2",
+                "/bookings/user/2/future",
+                "/bookings/court/1",
+                "/bookings/court/1/page",
+                "/bookings/date/" + FUTURE_DATE,
+                "/bookings/status/PENDING",
+                "/bookings/status/PENDING/page",
+                "/bookings/today");
+
+        Map<String, Long> before = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            // A primeira chamada aquece os caches (catálogo de quadras, índice)
+            statementsFor(endpoint);
+            before.put(endpoint, statementsFor(endpoint));
+        }
+
+        assertThat(bookingService.importBookings(bookingsAcrossCourtsAndUsers())).isEqualTo(SEEDED_BOOKINGS);
+
+        Map<String, Long> after = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            after.put(endpoint, statementsFor(endpoint));
+        }
+        assertThat(after).isEqualTo(before);
+        assertThat(before.values()).allSatisfy(count -> assertThat(count).isBetween(1L, 2L));
+
+        // As medições acima já percorrem as listagens completas (ou o limite das rotas legadas)
+        mockMvc.perform(get("/bookings")).andExpect(jsonPath("$.length()").value(1000));
+        mockMvc.perform(get("/bookings/status/PENDING")).andExpect(jsonPath("$.length()").value(1000));
+        mockMvc.perform(get("/bookings/date/" + FUTURE_DATE)).andExpect(jsonPath("$.length()").value(COURTS * SLOTS_PER_DAY));
+        mockMvc.perform(get("/bookings/today")).andExpect(jsonPath("$.length()").value(COURTS * SLOTS_PER_DAY));
+    }
+
+    private long statementsFor(String endpoint) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(endpoint)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Agendamentos PENDING e CONFIRMED distribuídos entre as 5 quadras e os 5 usuários do
+     * data.sql, para que as linhas tragam quadras e usuários distintos
+     */
+    private static List<BookingDTO> bookingsAcrossCourtsAndUsers() {
+        List<BookingDTO> bookings = new ArrayList<>(SEEDED_BOOKINGS);
+        int perDay = COURTS * SLOTS_PER_DAY;
+        for (int i = 0; i < SEEDED_BOOKINGS; i++) {
+            int day = i / perDay;
+            int slot = (i / COURTS) % SLOTS_PER_DAY;
+            BookingDTO booking = new BookingDTO();
+            booking.setCourtId((long) (i % COURTS) + 1);
+            booking.setUserId((long) ((i / 2) % 5) + 1);
+            booking.setBookingDate(day == 0 ? TODAY : TODAY.plusDays(9 + day));
+            booking.setStartTime(LocalTime.of(6 + slot, 0));
+            booking.setEndTime(LocalTime.of(7 + slot, 0));
+            booking.setStatus(i % 2 == 0 ? Booking.BookingStatus.PENDING : Booking.BookingStatus.CONFIRMED);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,127 @@
+package com.joaopedroaguiar.tennisclub.repository;
+
+import com.joaopedroaguiar.tennisclub.model.Court;
+import com.joaopedroaguiar.tennisclub.model.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste dos planos de execução das consultas de agendamentos
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Cada método do repositório é executado e o SQL gerado pelo Hibernate é capturado por um
+ * StatementInspector; o EXPLAIN desse SQL no H2 (parâmetros sem valor) deve usar o índice
+ * esperado, e não uma varredura da tabela bookings.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking-index-plan",
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.joaopedroaguiar.tennisclub.repository.BookingIndexPlanTest$CapturingInspector",
+        "tennisclub.bookings.maintenance.enabled=false"
+})
+class BookingIndexPlanTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Court court;
+    private User user;
+
+    @BeforeEach
+    void loadCourtAndUser() {
+        court = courtRepository.findById(1L).orElseThrow();
+        user = userRepository.findById(1L).orElseThrow();
+    }
+
+    @Test
+    void conflictCheckUsesTheCourtSlotIndex() {
+        String sql = capture(() -> bookingRepository.existsConflictingBooking(court, DATE, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+
+        assertThat(explain(sql)).containsIgnoringCase("IDX_BOOKINGS_COURT_SLOT");
+    }
+
+    @Test
+    void futureBookingsByUserUseTheUserDateIndex() {
+        String sql = capture(() -> bookingRepository.findFutureBookingsByUser(user, DATE));
+
+        assertThat(explain(sql)).containsIgnoringCase("IDX_BOOKINGS_USER_DATE");
+    }
+
+    @Test
+    void todayBookingsUseTheDateTimeIndex() {
+        String sql = capture(() -> bookingRepository.findTodayBookings(DATE));
+
+        assertThat(explain(sql)).containsIgnoringCase("IDX_BOOKINGS_DATE_TIME");
+    }
+
+    @Test
+    void courtPageUsesTheCourtCursorIndex() {
+        String sql = capture(() -> bookingRepository.findPageByCourtAfter(1L, DATE, LocalTime.of(8, 0), 0L, PageRequest.of(0, 51)));
+
+        assertThat(explain(sql)).containsIgnoringCase("IDX_BOOKINGS_COURT_CURSOR");
+    }
+
+    /**
+     * Executa a consulta e retorna o único SQL emitido sobre a tabela bookings
+     */
+    private static String capture(Runnable query) {
+        CapturingInspector.STATEMENTS.clear();
+        query.run();
+        List<String> statements = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("bookings"))
+                .toList();
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    /**
+     * Registra o SQL de cada comando preparado pelo Hibernate, sem alterá-lo
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
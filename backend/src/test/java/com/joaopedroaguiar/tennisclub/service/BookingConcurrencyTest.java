@@ -0,0 +1,270 @@
+package com.joaopedroaguiar.tennisclub.service;
+
+import com.joaopedroaguiar.tennisclub.dto.BookingDTO;
+import com.joaopedroaguiar.tennisclub.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Teste de concorrência da admissão de agendamentos (índice de ocupação, claims e rollback)
+ * Sistema TennisClub - Desenvolvido por: João Pedro Aguiar
+ *
+ * Várias threads disputam o mesmo horário ao mesmo tempo: exatamente uma criação deve ser
+ * aceita, as demais recebem ConflictException e o banco fica com um único agendamento ativo.
+ * No teste de carga, milhares de pedidos sobrepostos em várias quadras e datas são executados
+ * em paralelo: nenhuma quadra/data termina com agendamentos sobrepostos, toda rejeição é
+ * justificada por um agendamento aceito e pedidos de quadras/datas sem disputa são aceitos.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.defer-datasource-initialization=true",
+        "tennisclub.bookings.maintenance.enabled=false"
+})
+class BookingConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 10;
+    private static final long COURT_ID = 1L;
+
+    // Carga: 5 quadras × 20 datas disputadas (30 pedidos sobrepostos cada) + 5 × 10 datas com
+    // um único pedido, executados por um pool de 32 threads
+    private static final int COURTS = 5;
+    private static final int CONTESTED_DAYS = 20;
+    private static final int REQUESTS_PER_CONTESTED_DAY = 30;
+    private static final int UNCONTESTED_DAYS = 10;
+    private static final int POOL_THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private CourtOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelBookingsForTheSameSlotAdmitExactlyOne() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(30);
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalTime startTime = LocalTime.of(8 + round, 0);
+            List<BookingDTO> requests = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                requests.add(booking(date, startTime, startTime.plusHours(1), i));
+            }
+
+            assertThat(race(requests)).isEqualTo(1);
+            assertThat(activeBookings(date, startTime, startTime.plusHours(1))).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void parallelOverlappingBookingsAdmitExactlyOne() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(31);
+        List<BookingDTO> requests = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            // Intervalos de 2 horas deslocados de 15 em 15 minutos, todos sobrepostos às 09:45-10:30
+            LocalTime startTime = LocalTime.of(8, 30).plusMinutes(15L * (i % 6));
+            requests.add(booking(date, startTime, startTime.plusHours(2), i));
+        }
+
+        assertThat(race(requests)).isEqualTo(1);
+        assertThat(activeBookings(date, LocalTime.of(8, 30), LocalTime.of(12, 0))).isEqualTo(1);
+    }
+
+    @Test
+    void thousandsOfParallelRequestsAcrossCourtsAndDates() throws Exception {
+        LocalDate firstDate = LocalDate.now().plusDays(40);
+        Random random = new Random(42);
+        List<BookingDTO> contested = new ArrayList<>();
+        for (int day = 0; day < CONTESTED_DAYS; day++) {
+            for (long courtId = 1; courtId <= COURTS; courtId++) {
+                for (int i = 0; i < REQUESTS_PER_CONTESTED_DAY; i++) {
+                    // Início em meia hora entre 06:00 e 20:30, duração de 1h ou 1h30 (até 22:00)
+                    LocalTime startTime = LocalTime.of(6, 0).plusMinutes(30L * random.nextInt(30));
+                    LocalTime endTime = startTime.plusMinutes(startTime.isBefore(LocalTime.of(20, 30)) && random.nextBoolean() ? 90 : 60);
+                    contested.add(booking(courtId, firstDate.plusDays(day), startTime, endTime, i));
+                }
+            }
+        }
+        List<BookingDTO> uncontested = new ArrayList<>();
+        for (int day = 0; day < UNCONTESTED_DAYS; day++) {
+            for (long courtId = 1; courtId <= COURTS; courtId++) {
+                uncontested.add(booking(courtId, firstDate.plusDays(CONTESTED_DAYS + day), LocalTime.of(18, 0), LocalTime.of(19, 0), day));
+            }
+        }
+        List<BookingDTO> requests = new ArrayList<>(contested);
+        requests.addAll(uncontested);
+        Collections.shuffle(requests, random);
+
+        Map<BookingDTO, Boolean> admitted = submitAll(requests);
+
+        Map<String, List<LocalTime[]>> active = activeIntervalsByCourtAndDate(firstDate, firstDate.plusDays(CONTESTED_DAYS + UNCONTESTED_DAYS));
+        // Nenhum par de agendamentos ativos se sobrepõe na mesma quadra e data
+        active.forEach((day, intervals) -> {
+            for (int i = 0; i < intervals.size(); i++) {
+                for (int j = i + 1; j < intervals.size(); j++) {
+                    assertThat(overlaps(intervals.get(i), intervals.get(j)))
+                            .as("sobreposição em %s: %s-%s e %s-%s", day, intervals.get(i)[0], intervals.get(i)[1],
+                                    intervals.get(j)[0], intervals.get(j)[1])
+                            .isFalse();
+                }
+            }
+        });
+        // Toda rejeição é justificada por um agendamento aceito que ocupa parte do horário
+        for (BookingDTO request : contested) {
+            if (!admitted.get(request)) {
+                LocalTime[] interval = {request.getStartTime(), request.getEndTime()};
+                assertThat(active.getOrDefault(dayKey(request.getCourtId(), request.getBookingDate()), List.of()))
+                        .anyMatch(other -> overlaps(interval, other));
+            }
+        }
+        // Pedidos sem concorrência na sua quadra e data são sempre aceitos
+        assertThat(uncontested).allMatch(admitted::get);
+        assertThat(active.values().stream().mapToInt(List::size).sum())
+                .isEqualTo((int) admitted.values().stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    void failedTransactionReleasesTheClaimedSlot() {
+        LocalDate date = LocalDate.now().plusDays(32);
+        LocalTime startTime = LocalTime.of(15, 0);
+        BookingDTO invalid = booking(date, startTime, startTime.plusHours(1), 0);
+        // Excede a coluna notes (500): a falha ocorre no flush do commit, depois da admissão no índice
+        invalid.setNotes("x".repeat(600));
+
+        assertThatThrownBy(() -> bookingService.createBooking(invalid)).isNotInstanceOf(ConflictException.class);
+        assertThat(occupancyIndex.isFree(COURT_ID, date, startTime, startTime.plusHours(1))).isTrue();
+
+        BookingDTO created = bookingService.createBooking(booking(date, startTime, startTime.plusHours(1), 1));
+        assertThat(created.getId()).isNotNull();
+        assertThat(activeBookings(date, startTime, startTime.plusHours(1))).isEqualTo(1);
+    }
+
+    /**
+     * Dispara as criações ao mesmo tempo e retorna o número de agendamentos aceitos; qualquer
+     * falha diferente de ConflictException interrompe o teste
+     */
+    private int race(List<BookingDTO> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        try {
+            CountDownLatch ready = new CountDownLatch(requests.size());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (BookingDTO request : requests) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        bookingService.createBooking(request);
+                        return true;
+                    } catch (ConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            int admitted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    admitted++;
+                }
+            }
+            return admitted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executa todas as criações em um pool fixo, liberadas ao mesmo tempo, e retorna se cada
+     * pedido foi aceito; qualquer falha diferente de ConflictException interrompe o teste
+     */
+    private Map<BookingDTO, Boolean> submitAll(List<BookingDTO> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Map<BookingDTO, Future<Boolean>> results = new HashMap<>();
+            for (BookingDTO request : requests) {
+                results.put(request, executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(request);
+                        return true;
+                    } catch (ConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            Map<BookingDTO, Boolean> admitted = new HashMap<>();
+            for (Map.Entry<BookingDTO, Future<Boolean>> result : results.entrySet()) {
+                admitted.put(result.getKey(), result.getValue().get(5, TimeUnit.MINUTES));
+            }
+            return admitted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, List<LocalTime[]>> activeIntervalsByCourtAndDate(LocalDate from, LocalDate to) {
+        Map<String, List<LocalTime[]>> intervals = new HashMap<>();
+        jdbcTemplate.query("SELECT court_id, booking_date, start_time, end_time FROM bookings " +
+                "WHERE booking_date BETWEEN ? AND ? AND status IN ('PENDING', 'CONFIRMED')", row -> {
+            intervals.computeIfAbsent(dayKey(row.getLong(1), row.getDate(2).toLocalDate()), key -> new ArrayList<>())
+                    .add(new LocalTime[] {row.getTime(3).toLocalTime(), row.getTime(4).toLocalTime()});
+        }, from, to);
+        return intervals;
+    }
+
+    private static String dayKey(Long courtId, LocalDate date) {
+        return courtId + "/" + date;
+    }
+
+    private static boolean overlaps(LocalTime[] a, LocalTime[] b) {
+        return a[0].isBefore(b[1]) && b[0].isBefore(a[1]);
+    }
+
+    private int activeBookings(LocalDate date, LocalTime from, LocalTime to) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings WHERE court_id = ? AND booking_date = ? " +
+                "AND start_time < ? AND end_time > ? AND status IN ('PENDING', 'CONFIRMED')", Integer.class,
+                COURT_ID, date, to, from);
+        return count != null ? count : 0;
+    }
+
+    private static BookingDTO booking(LocalDate date, LocalTime startTime, LocalTime endTime, int index) {
+        return booking(COURT_ID, date, startTime, endTime, index);
+    }
+
+    private static BookingDTO booking(Long courtId, LocalDate date, LocalTime startTime, LocalTime endTime, int index) {
+        BookingDTO booking = new BookingDTO();
+        booking.setCourtId(courtId);
+        // Usuários do data.sql (IDs 1 a 5)
+        booking.setUserId((long) (index % 5) + 1);
+        booking.setBookingDate(date);
+        booking.setStartTime(startTime);
+        booking.setEndTime(endTime);
+        return booking;
+    }
+}